@@ -8,6 +8,11 @@ import org.openapi4j.core.util.TreeUtil;
 
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
 
@@ -27,13 +32,30 @@ public abstract class AbstractReferenceResolver {
   private final Map<URL, JsonNode> documentRegistry = new HashMap<>();
   private final ReferenceRegistry referenceRegistry;
   final String refKeyword;
+  // Concurrent loading of external documents, null for sequential loading
+  private final Executor executor;
+  private final Map<URL, CompletableFuture<JsonNode>> documentLoads = new ConcurrentHashMap<>();
 
   protected AbstractReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode baseDocument, String refKeyword, ReferenceRegistry referenceRegistry) {
+    this(baseUrl, authOptions, baseDocument, refKeyword, referenceRegistry, null);
+  }
+
+  /**
+   * Creates a resolver loading the external documents with the given executor.
+   * <p/>
+   * Each document is loaded once, the documents it references are requested as soon as it is loaded.
+   * Discovery and resolution still run on the calling thread in document order,
+   * so the resulting registry and the cycle detection are the same as with sequential loading.
+   *
+   * @param executor The executor to load the external documents, {@code null} for sequential loading.
+   */
+  protected AbstractReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode baseDocument, String refKeyword, ReferenceRegistry referenceRegistry, Executor executor) {
     this.baseUrl = baseUrl;
     this.authOptions = authOptions;
     this.baseDocument = baseDocument;
     this.refKeyword = refKeyword;
     this.referenceRegistry = referenceRegistry;
+    this.executor = executor;
   }
 
   public void resolve() throws ResolutionException {
@@ -43,6 +65,10 @@ public abstract class AbstractReferenceResolver {
       ? registerDocument(baseUrl, baseDocument)
       : registerDocument(baseUrl);
 
+    if (executor != null) {
+      requestDocuments(baseUrl, baseDocument);
+    }
+
     // Find all external documents from references
     findReferences(baseUrl, baseDocument);
 
@@ -66,21 +92,11 @@ public abstract class AbstractReferenceResolver {
         continue;
       }
 
-      final int hashIndex = refValue.indexOf(HASH);
-      if (hashIndex == 0) {
+      final URL subUrl = getExternalUrl(url, refValue);
+      if (subUrl == null) {
         // internal content of current resource (i.e. #/pointer)
         addRef(url, refParents, refValue);
       } else {
-        final URL subUrl;
-
-        if (hashIndex == -1) {
-          // direct content from external resource (i.e. external.yaml)
-          subUrl = ReferenceUrl.resolve(url, refValue);
-        } else {
-          // or relative content from external resource (i.e. external.yaml#/pointer or /base/external.yaml#/pointer)
-          subUrl = ReferenceUrl.resolve(url, refValue.substring(0, hashIndex));
-        }
-
         addRef(subUrl, refParents, refValue);
 
         if (!documentRegistry.containsKey(subUrl)) {
@@ -91,6 +107,68 @@ public abstract class AbstractReferenceResolver {
     }
   }
 
+  private URL getExternalUrl(URL url, String refValue) {
+    final int hashIndex = refValue.indexOf(HASH);
+
+    if (hashIndex == 0) {
+      return null;
+    } else if (hashIndex == -1) {
+      // direct content from external resource (i.e. external.yaml)
+      return ReferenceUrl.resolve(url, refValue);
+    } else {
+      // or relative content from external resource (i.e. external.yaml#/pointer or /base/external.yaml#/pointer)
+      return ReferenceUrl.resolve(url, refValue.substring(0, hashIndex));
+    }
+  }
+
+  /**
+   * Request the loading of the external documents referenced by the given document.
+   * The document is only read, so this can be done from the loading threads.
+   */
+  private void requestDocuments(URL url, JsonNode document) {
+    for (JsonNode refNode : getReferencePaths(document)) {
+      String refValue = refNode.textValue();
+      if (refValue == null) {
+        continue;
+      }
+
+      URL subUrl = getExternalUrl(url, refValue);
+      if (subUrl != null) {
+        requestDocument(subUrl);
+      }
+    }
+  }
+
+  private CompletableFuture<JsonNode> requestDocument(URL url) {
+    CompletableFuture<JsonNode> load = documentLoads.get(url);
+    if (load != null) {
+      return load;
+    }
+
+    // Register the load before running it, the executor may run the task in the calling thread
+    CompletableFuture<JsonNode> newLoad = new CompletableFuture<>();
+    load = documentLoads.putIfAbsent(url, newLoad);
+    if (load != null) {
+      return load;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          JsonNode document = TreeUtil.load(url, authOptions);
+          requestDocuments(url, document);
+          newLoad.complete(document);
+        } catch (Exception e) {
+          newLoad.completeExceptionally(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      newLoad.completeExceptionally(e);
+    }
+
+    return newLoad;
+  }
+
   private void addRef(URL url, List<JsonNode> refParents, String refValue) {
     // Add the reference to the registry
     Reference reference = referenceRegistry.addRef(url, refValue);
@@ -106,9 +184,15 @@ public abstract class AbstractReferenceResolver {
 
   private JsonNode registerDocument(URL url) throws ResolutionException {
     try {
-      JsonNode document = TreeUtil.load(url, authOptions);
+      JsonNode document
+        = (executor != null)
+        ? requestDocument(url).join()
+        : TreeUtil.load(url, authOptions);
+
       documentRegistry.put(url, document);
       return document;
+    } catch (CompletionException e) {
+      throw new ResolutionException(String.format(LOAD_DOC_ERR_MSG, url), e.getCause());
     } catch (Exception e) {
       throw new ResolutionException(String.format(LOAD_DOC_ERR_MSG, url), e);
     }
@@ -36,7 +36,7 @@ public class Reference {
   /**
    * Get the base URL for external reference document.
    */
-  URL getBaseUrl() {
+  public URL getBaseUrl() {
     return baseUrl;
   }
 
@@ -1,8 +1,11 @@
 package org.openapi4j.core.model.reference;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +37,21 @@ public class ReferenceRegistry {
     return reference;
   }
 
+  /**
+   * Add/replace a reference with its already resolved content to the registry.
+   *
+   * @param url      The base URL.
+   * @param refValue The reference expression.
+   * @param content  The content of the targeted reference expression.
+   * @return The reference created or replaced.
+   */
+  public Reference addRef(URL url, String refValue, JsonNode content) {
+    Reference reference = addRef(url, refValue);
+    reference.setContent(content);
+
+    return reference;
+  }
+
   /**
    * Get the reference from the given reference expression.
    * The expression can be absolute or relative to the base context URL.
@@ -70,8 +88,13 @@ public class ReferenceRegistry {
     this.references.putAll(registry.references);
   }
 
-  Collection<Reference> getReferences() {
-    return references.values();
+  /**
+   * Get all the registered references.
+   *
+   * @return The references as read-only.
+   */
+  public Collection<Reference> getReferences() {
+    return Collections.unmodifiableCollection(references.values());
   }
 
   private String buildCanonicalRef(URL url, String refValue) {
@@ -6,6 +6,7 @@ import org.openapi4j.core.model.AuthOption;
 import java.net.URL;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * The default JSON reference resolver.
@@ -15,6 +16,10 @@ public class ReferenceResolver extends AbstractReferenceResolver {
     super(baseUrl, authOptions, apiNode, refKeyword, referenceRegistry);
   }
 
+  public ReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode apiNode, String refKeyword, ReferenceRegistry referenceRegistry, Executor executor) {
+    super(baseUrl, authOptions, apiNode, refKeyword, referenceRegistry, executor);
+  }
+
   @Override
   protected Collection<JsonNode> getReferencePaths(JsonNode document) {
     return document.findValues(refKeyword);
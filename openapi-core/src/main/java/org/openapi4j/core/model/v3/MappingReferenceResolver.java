@@ -9,6 +9,7 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.$REF;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.MAPPING;
@@ -17,8 +18,8 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.MAPPING;
  * The JSON reference resolver for discriminator mapping.
  */
 class MappingReferenceResolver extends AbstractReferenceResolver {
-  MappingReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode apiNode, ReferenceRegistry referenceRegistry) {
-    super(baseUrl, authOptions, apiNode, $REF, referenceRegistry);
+  MappingReferenceResolver(URL baseUrl, List<AuthOption> authOptions, JsonNode apiNode, ReferenceRegistry referenceRegistry, Executor executor) {
+    super(baseUrl, authOptions, apiNode, $REF, referenceRegistry, executor);
   }
 
   @Override
@@ -9,6 +9,7 @@ import org.openapi4j.core.model.reference.ReferenceResolver;
 
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.$REF;
 
@@ -66,10 +67,40 @@ public class OAI3Context implements OAIContext {
    * @throws ResolutionException In case of missing or wrong reference during discovery process.
    */
   public OAI3Context(URL baseUrl, List<AuthOption> authOptions, JsonNode baseDocument) throws ResolutionException {
+    this(baseUrl, authOptions, baseDocument, (Executor) null);
+  }
+
+  /**
+   * Creates a context from the given url.
+   * External documents are loaded concurrently with the given executor.
+   *
+   * @param baseUrl      The given url.
+   * @param authOptions  The authentication values.
+   * @param baseDocument The tree node representing the Open API schema.
+   * @param executor     The executor to load the external documents, {@code null} for sequential loading.
+   * @throws ResolutionException In case of missing or wrong reference during discovery process.
+   */
+  public OAI3Context(URL baseUrl, List<AuthOption> authOptions, JsonNode baseDocument, Executor executor) throws ResolutionException {
     this.baseUrl = baseUrl;
     referenceRegistry = new ReferenceRegistry(baseUrl);
     this.authOptions = authOptions;
-    this.baseDocument = resolveReferences(baseDocument);
+    this.baseDocument = resolveReferences(baseDocument, executor);
+  }
+
+  /**
+   * Creates a context from an already resolved document and its references.
+   * No discovery or resolution process is done.
+   *
+   * @param baseUrl           The given url.
+   * @param authOptions       The authentication values.
+   * @param baseDocument      The resolved tree node representing the Open API schema.
+   * @param referenceRegistry The references with their resolved content.
+   */
+  public OAI3Context(URL baseUrl, List<AuthOption> authOptions, JsonNode baseDocument, ReferenceRegistry referenceRegistry) {
+    this.baseUrl = baseUrl;
+    this.referenceRegistry = referenceRegistry;
+    this.authOptions = authOptions;
+    this.baseDocument = baseDocument;
   }
 
   /**
@@ -96,20 +127,20 @@ public class OAI3Context implements OAIContext {
     return baseUrl;
   }
 
-  private JsonNode resolveReferences(JsonNode baseDocument) throws ResolutionException {
+  private JsonNode resolveReferences(JsonNode baseDocument, Executor executor) throws ResolutionException {
     // Standard JSON references
-    ReferenceResolver resolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, $REF, referenceRegistry);
+    ReferenceResolver resolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, $REF, referenceRegistry, executor);
     resolver.resolve();
 
     // Mapping JSON references
     ReferenceRegistry mappingRefsRegistry = new ReferenceRegistry(baseUrl);
-    MappingReferenceResolver mappingResolver = new MappingReferenceResolver(baseUrl, authOptions, baseDocument, mappingRefsRegistry);
+    MappingReferenceResolver mappingResolver = new MappingReferenceResolver(baseUrl, authOptions, baseDocument, mappingRefsRegistry, executor);
     mappingResolver.resolve();
     referenceRegistry.mergeRefs(mappingRefsRegistry);
 
     // Links JSON references
     ReferenceRegistry operationRefsRegistry = new ReferenceRegistry(baseUrl);
-    ReferenceResolver operationResolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, OPERATION_REF, operationRefsRegistry);
+    ReferenceResolver operationResolver = new ReferenceResolver(baseUrl, authOptions, baseDocument, OPERATION_REF, operationRefsRegistry, executor);
     operationResolver.resolve();
     referenceRegistry.mergeRefs(operationRefsRegistry);
 
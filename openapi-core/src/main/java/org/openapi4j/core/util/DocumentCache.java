@@ -0,0 +1,73 @@
+package org.openapi4j.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URL;
+
+/**
+ * Cache of loaded documents, keyed by URL.
+ * <p/>
+ * Entries hold the parsed content with the values used to revalidate it:
+ * ETag / Last-Modified headers for HTTP sources and modification time for file sources.
+ * <p/>
+ * The cache is shared by all the loadings, authentication values are not part of the key.
+ * The nodes given to or returned by the cache are never modified by the loader.
+ *
+ * @see TreeUtil#setDocumentCache(DocumentCache)
+ */
+public interface DocumentCache {
+  /**
+   * Get the cached entry of the given URL.
+   *
+   * @param url The URL of the document.
+   * @return The entry or {@code null} if not found.
+   */
+  Entry get(URL url);
+
+  /**
+   * Add or replace the entry of the given URL.
+   *
+   * @param url   The URL of the document.
+   * @param entry The entry to store.
+   */
+  void put(URL url, Entry entry);
+
+  /**
+   * Cached document.
+   */
+  final class Entry {
+    private final JsonNode content;
+    private final String etag;
+    private final String lastModified;
+    private final long fileModified;
+
+    /**
+     * @param content      The parsed content of the document.
+     * @param etag         The HTTP ETag header value, if any.
+     * @param lastModified The HTTP Last-Modified header value, if any.
+     * @param fileModified The file modification time in milliseconds, {@code 0} for non file sources.
+     */
+    public Entry(JsonNode content, String etag, String lastModified, long fileModified) {
+      this.content = content;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.fileModified = fileModified;
+    }
+
+    public JsonNode getContent() {
+      return content;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public String getLastModified() {
+      return lastModified;
+    }
+
+    public long getFileModified() {
+      return fileModified;
+    }
+  }
+}
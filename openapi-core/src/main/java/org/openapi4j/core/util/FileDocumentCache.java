@@ -0,0 +1,105 @@
+package org.openapi4j.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * On-disk document cache.
+ * <p/>
+ * Each document is stored as JSON file in the given directory.
+ * Unreadable files are considered as missing entries.
+ */
+public class FileDocumentCache implements DocumentCache {
+  private static final String URL = "url";
+  private static final String ETAG = "etag";
+  private static final String LAST_MODIFIED = "lastModified";
+  private static final String FILE_MODIFIED = "fileModified";
+  private static final String CONTENT = "content";
+  private static final String EXTENSION = ".json";
+  private static final String TMP_EXTENSION = ".tmp";
+
+  private final Path directory;
+
+  /**
+   * @param directory The directory of the cache files. Created if needed.
+   * @throws IOException In case the directory can't be created.
+   */
+  public FileDocumentCache(final File directory) throws IOException {
+    this.directory = Files.createDirectories(directory.toPath());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Entry get(URL url) {
+    final Path file = getFile(url);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+
+    try {
+      JsonNode node = TreeUtil.json.readTree(file.toFile());
+      // Check against hash collision
+      if (!url.toExternalForm().equals(node.path(URL).textValue())) {
+        return null;
+      }
+
+      return new Entry(
+        node.get(CONTENT),
+        node.path(ETAG).textValue(),
+        node.path(LAST_MODIFIED).textValue(),
+        node.path(FILE_MODIFIED).longValue());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void put(URL url, Entry entry) {
+    ObjectNode node = TreeUtil.json.createObjectNode();
+    node.put(URL, url.toExternalForm());
+    node.put(ETAG, entry.getEtag());
+    node.put(LAST_MODIFIED, entry.getLastModified());
+    node.put(FILE_MODIFIED, entry.getFileModified());
+    node.set(CONTENT, entry.getContent());
+
+    final Path file = getFile(url);
+    try {
+      Path tmpFile = Files.createTempFile(directory, file.getFileName().toString(), TMP_EXTENSION);
+      TreeUtil.json.writeValue(tmpFile.toFile(), node);
+      Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException ignored) {
+      // The document will be loaded again
+    }
+  }
+
+  private Path getFile(URL url) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.toExternalForm().getBytes(UTF_8));
+
+      StringBuilder name = new StringBuilder(hash.length * 2 + EXTENSION.length());
+      for (byte b : hash) {
+        name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+
+      return directory.resolve(name.append(EXTENSION).toString());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e); // Will never happen - SHA-256 is required on every JVM
+    }
+  }
+}
@@ -3,6 +3,7 @@ package org.openapi4j.core.util;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Utility class related to IO.
@@ -25,4 +26,34 @@ public final class IOUtil {
 
     return result.toString(charset);
   }
+
+  /**
+   * Read all the bytes of the given stream.
+   * The returned buffer wraps the read buffer, no copy of the content is made.
+   *
+   * @param input The stream to read from.
+   * @return The content as heap buffer.
+   * @throws IOException In case of read error.
+   */
+  public static ByteBuffer toByteBuffer(final InputStream input) throws IOException {
+    ExposedByteArrayOutputStream result = new ExposedByteArrayOutputStream(Math.max(input.available(), DEFAULT_BUFFER_SIZE));
+    byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    int length;
+
+    while ((length = input.read(buffer)) != EOF) {
+      result.write(buffer, 0, length);
+    }
+
+    return result.toByteBuffer();
+  }
+
+  private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    ExposedByteArrayOutputStream(int size) {
+      super(size);
+    }
+
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
 }
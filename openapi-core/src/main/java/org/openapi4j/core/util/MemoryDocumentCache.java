@@ -0,0 +1,45 @@
+package org.openapi4j.core.util;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory document cache with least recently used eviction.
+ */
+public class MemoryDocumentCache implements DocumentCache {
+  private final Map<String, Entry> entries;
+
+  /**
+   * @param maxEntries The maximum number of documents to keep.
+   */
+  public MemoryDocumentCache(final int maxEntries) {
+    entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Entry get(URL url) {
+    synchronized (entries) {
+      // URL.equals & hashCode may resolve host names, use the string form instead
+      return entries.get(url.toExternalForm());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void put(URL url, Entry entry) {
+    synchronized (entries) {
+      entries.put(url.toExternalForm(), entry);
+    }
+  }
+}
@@ -7,12 +7,17 @@ import org.openapi4j.core.exception.DecodeException;
 import org.openapi4j.core.exception.EncodeException;
 import org.openapi4j.core.model.AuthOption;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
 
@@ -24,7 +29,8 @@ public final class TreeUtil {
   public static final String ENCODE_ERR_MSG = "Failed to encode: %s";
   private static final String DECODE_ERR_MSG = "Failed to decode: %s";
 
-  private static final Pattern JSON_CHAR_PATTERN = Pattern.compile("(?:^\\s*)[{\\[]");
+  // Documents from files over this size are memory mapped
+  private static final int MAPPING_THRESHOLD = 64 * 1024;
 
   /**
    * The global JSON mapper.
@@ -35,6 +41,12 @@ public final class TreeUtil {
    */
   public static final ObjectMapper yaml = new ObjectMapper(new YAMLFactory());
 
+  private static final String FILE_PROTOCOL = "file";
+  private static final String HTTP_PROTOCOL = "http";
+  private static final String HTTPS_PROTOCOL = "https";
+
+  private static volatile DocumentCache documentCache;
+
   private TreeUtil() {
   }
 
@@ -108,14 +120,12 @@ public final class TreeUtil {
     requireNonNull(url, URL_REQUIRED_ERR_MSG);
 
     try {
-      InputStream in = UrlContentRetriever.instance().get(url, authOptions);
-      String content = IOUtil.toString(in, StandardCharsets.UTF_8.name());
+      ByteBuffer content = readContent(url, authOptions);
+      ObjectMapper mapper = getMapper(content);
 
-      if (isJsonContent(content)) {
-        return TreeUtil.json.readValue(content, clazz);
-      } else {
-        return TreeUtil.yaml.readValue(content, clazz);
-      }
+      return content.hasArray()
+        ? mapper.readValue(content.array(), content.arrayOffset() + content.position(), content.remaining(), clazz)
+        : mapper.readValue(new ByteBufferInputStream(content), clazz);
     } catch (Exception e) {
       throw new DecodeException(String.format(DECODE_ERR_MSG, e.getMessage()));
     }
@@ -144,21 +154,137 @@ public final class TreeUtil {
     requireNonNull(url, URL_REQUIRED_ERR_MSG);
 
     try {
-      InputStream in = UrlContentRetriever.instance().get(url, authOptions);
-      String content = IOUtil.toString(in, StandardCharsets.UTF_8.name());
-
-      if (isJsonContent(content)) {
-        return TreeUtil.json.readTree(content);
-      } else {
-        return TreeUtil.yaml.readTree(content);
+      final DocumentCache cache = documentCache;
+      if (cache != null) {
+        return load(cache, url, authOptions);
       }
+
+      return readTree(readContent(url, authOptions));
     } catch (Exception e) {
       throw new DecodeException(String.format(DECODE_ERR_MSG, e.getMessage()));
     }
   }
 
-  private static boolean isJsonContent(String content) {
-    Matcher matcher = JSON_CHAR_PATTERN.matcher(content);
-    return matcher.find();
+  /**
+   * Set the cache of the documents loaded as tree nodes.
+   * File sources are revalidated from their modification time,
+   * HTTP sources from ETag / Last-Modified headers.
+   * Other sources are not cached.
+   *
+   * @param cache The cache to use, {@code null} to disable caching (default).
+   */
+  public static void setDocumentCache(final DocumentCache cache) {
+    documentCache = cache;
+  }
+
+  /**
+   * Get the cache of the documents loaded as tree nodes.
+   *
+   * @return The cache, {@code null} if caching is disabled.
+   */
+  public static DocumentCache getDocumentCache() {
+    return documentCache;
+  }
+
+  private static JsonNode load(final DocumentCache cache,
+                               final URL url,
+                               final List<AuthOption> authOptions) throws Exception {
+
+    final DocumentCache.Entry entry = cache.get(url);
+    final String protocol = url.getProtocol();
+
+    // Loaded documents are modified by reference resolution, cached nodes are always copied
+    if (FILE_PROTOCOL.equals(protocol)) {
+      final long fileModified = new File(url.toURI()).lastModified();
+      if (entry != null && fileModified != 0 && entry.getFileModified() == fileModified) {
+        return entry.getContent().deepCopy();
+      }
+
+      JsonNode content = readTree(readContent(url, authOptions));
+      if (fileModified != 0) {
+        cache.put(url, new DocumentCache.Entry(content.deepCopy(), null, null, fileModified));
+      }
+      return content;
+
+    } else if (HTTP_PROTOCOL.equals(protocol) || HTTPS_PROTOCOL.equals(protocol)) {
+      UrlContentRetriever.Content response = UrlContentRetriever.instance().getIfModified(
+        url,
+        authOptions,
+        entry != null ? entry.getEtag() : null,
+        entry != null ? entry.getLastModified() : null);
+
+      if (response == null && entry != null) { // Not modified
+        return entry.getContent().deepCopy();
+      } else if (response == null) {
+        // Not modified without validators from us, request the content unconditionally
+        return readTree(readContent(url, authOptions));
+      }
+
+      JsonNode content;
+      try (InputStream in = response.getStream()) {
+        content = readTree(IOUtil.toByteBuffer(in));
+      }
+      if (response.getEtag() != null || response.getLastModified() != null) {
+        cache.put(url, new DocumentCache.Entry(content.deepCopy(), response.getEtag(), response.getLastModified(), 0));
+      }
+      return content;
+    }
+
+    return readTree(readContent(url, authOptions));
+  }
+
+  /**
+   * Read the raw content of the given URL.
+   * Large files are memory mapped, other contents are read in a single heap buffer.
+   */
+  private static ByteBuffer readContent(final URL url, final List<AuthOption> authOptions) throws Exception {
+    if (FILE_PROTOCOL.equals(url.getProtocol())) {
+      Path path = Paths.get(url.toURI());
+
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        long size = channel.size();
+        if (size >= MAPPING_THRESHOLD) {
+          return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+      }
+
+      return ByteBuffer.wrap(Files.readAllBytes(path));
+    }
+
+    try (InputStream in = UrlContentRetriever.instance().get(url, authOptions)) {
+      return IOUtil.toByteBuffer(in);
+    }
+  }
+
+  private static JsonNode readTree(final ByteBuffer content) throws IOException {
+    ObjectMapper mapper = getMapper(content);
+
+    return content.hasArray()
+      ? mapper.readTree(content.array(), content.arrayOffset() + content.position(), content.remaining())
+      : mapper.readTree(new ByteBufferInputStream(content));
+  }
+
+  /**
+   * Get JSON mapper if the first non-whitespace byte opens an object or an array, YAML mapper otherwise.
+   */
+  private static ObjectMapper getMapper(final ByteBuffer content) {
+    for (int i = content.position(); i < content.limit(); i++) {
+      switch (content.get(i)) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+        case '\f':
+        case 0x0B:
+          continue;
+        case '{':
+        case '[':
+          return json;
+        default:
+          return yaml;
+      }
+    }
+
+    return yaml;
   }
 }
@@ -20,6 +20,10 @@ import static org.openapi4j.core.model.AuthOption.Type.QUERY;
 public final class UrlContentRetriever {
   private static final String ACCEPT_HEADER_VALUE = "application/json, application/yaml, */*";
   private static final int MAX_REDIRECTIONS = 5;
+  private static final String ETAG_HEADER = "ETag";
+  private static final String LAST_MODIFIED_HEADER = "Last-Modified";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+  private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
 
   private static final UrlContentRetriever INSTANCE = new UrlContentRetriever();
 
@@ -43,40 +47,87 @@ public final class UrlContentRetriever {
    * @throws ResolutionException wrapped exception for any error, depending of the underlying handler.
    */
   public InputStream get(final URL url, final List<AuthOption> authOptions) throws ResolutionException {
+    try {
+      return openConnection(url, authOptions, null, null).getInputStream();
+    } catch (Exception ex) {
+      throw new ResolutionException(ex);
+    }
+  }
+
+  /**
+   * Get the content of the targeted URL if it has been modified since the given validators.
+   * For HTTP requests, the validators are sent as If-None-Match / If-Modified-Since headers.
+   * <p>
+   * For other handlers, the content is always returned.
+   *
+   * @param url          The url to request from.
+   * @param authOptions  The authentication values.
+   * @param etag         The ETag of the known content, if any.
+   * @param lastModified The Last-Modified value of the known content, if any.
+   * @return The content with its validators, {@code null} if the resource is not modified.
+   * @throws ResolutionException wrapped exception for any error, depending of the underlying handler.
+   */
+  public Content getIfModified(final URL url,
+                               final List<AuthOption> authOptions,
+                               final String etag,
+                               final String lastModified) throws ResolutionException {
+    try {
+      URLConnection conn = openConnection(url, authOptions, etag, lastModified);
+
+      if (conn instanceof HttpURLConnection
+        && ((HttpURLConnection) conn).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        ((HttpURLConnection) conn).disconnect();
+        return null;
+      }
+
+      return new Content(
+        conn.getInputStream(),
+        conn.getHeaderField(ETAG_HEADER),
+        conn.getHeaderField(LAST_MODIFIED_HEADER));
+    } catch (Exception ex) {
+      throw new ResolutionException(ex);
+    }
+  }
+
+  private URLConnection openConnection(final URL url,
+                                       final List<AuthOption> authOptions,
+                                       final String etag,
+                                       final String lastModified) throws Exception {
     URLConnection conn;
     URL inUrl = url;
     int nbRedirects = 0;
 
-    try {
-      do {
-        // fill auth options for the current URL
-        List<AuthOption> queryParams = new ArrayList<>();
-        List<AuthOption> headerParams = new ArrayList<>();
-        fillAuthOptions(authOptions, inUrl, queryParams, headerParams);
-
-        // Setup query string auth option if any and make a new URL
-        if (!queryParams.isEmpty()) {
-          inUrl = handleAuthInQuery(inUrl, queryParams);
-        }
+    do {
+      // fill auth options for the current URL
+      List<AuthOption> queryParams = new ArrayList<>();
+      List<AuthOption> headerParams = new ArrayList<>();
+      fillAuthOptions(authOptions, inUrl, queryParams, headerParams);
 
-        // Open connection
-        conn = inUrl.openConnection();
+      // Setup query string auth option if any and make a new URL
+      if (!queryParams.isEmpty()) {
+        inUrl = handleAuthInQuery(inUrl, queryParams);
+      }
 
-        // Setup header auth options if any
-        handleAuthInHeaders(conn, headerParams);
+      // Open connection
+      conn = inUrl.openConnection();
 
-        conn.setRequestProperty("Accept", ACCEPT_HEADER_VALUE);
-        conn.connect();
+      // Setup header auth options if any
+      handleAuthInHeaders(conn, headerParams);
 
-        // Handle redirection for HTTP connection
-        inUrl = handleRedirection(conn, nbRedirects);
-      } while (inUrl != null);
+      conn.setRequestProperty("Accept", ACCEPT_HEADER_VALUE);
+      if (etag != null) {
+        conn.setRequestProperty(IF_NONE_MATCH_HEADER, etag);
+      }
+      if (lastModified != null) {
+        conn.setRequestProperty(IF_MODIFIED_SINCE_HEADER, lastModified);
+      }
+      conn.connect();
 
-      return conn.getInputStream();
+      // Handle redirection for HTTP connection
+      inUrl = handleRedirection(conn, nbRedirects);
+    } while (inUrl != null);
 
-    } catch (Exception ex) {
-      throw new ResolutionException(ex);
-    }
+    return conn;
   }
 
   private void fillAuthOptions(List<AuthOption> authOptions,
@@ -141,4 +192,37 @@ public final class UrlContentRetriever {
       .replace("}", "%7D")
       .replace(" ", "%20");
   }
+
+  /**
+   * Content of a resource with its validators.
+   */
+  public static final class Content {
+    private final InputStream stream;
+    private final String etag;
+    private final String lastModified;
+
+    Content(InputStream stream, String etag, String lastModified) {
+      this.stream = stream;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    public InputStream getStream() {
+      return stream;
+    }
+
+    /**
+     * @return The ETag header value, {@code null} if not provided or not an HTTP resource.
+     */
+    public String getEtag() {
+      return etag;
+    }
+
+    /**
+     * @return The Last-Modified header value, {@code null} if not provided or not an HTTP resource.
+     */
+    public String getLastModified() {
+      return lastModified;
+    }
+  }
 }
@@ -0,0 +1,23 @@
+package org.openapi4j.core.validation;
+
+import java.util.Locale;
+
+/**
+ * Provider of localized validation messages.
+ * <p/>
+ * Messages are rendered from the result template and the arguments kept by the validation items,
+ * so the same results can be rendered in several locales without validating again.
+ *
+ * @see ValidationResults.ValidationItem#message(Locale, ValidationMessageProvider)
+ */
+public interface ValidationMessageProvider {
+  /**
+   * Get the message template of the given result.
+   * The template is formatted with the item arguments, as with {@link String#format(Locale, String, Object...)}.
+   *
+   * @param result The result, holding the code and the default template.
+   * @param locale The locale of the message.
+   * @return The template or {@code null} to use the default one.
+   */
+  String getMessage(ValidationResult result, Locale locale);
+}
@@ -1,5 +1,7 @@
 package org.openapi4j.core.validation;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -19,13 +21,39 @@ public class ValidationResults implements Serializable {
   private static final String WARNING_TITLE = "Validation warning(s) :" + LINE_SEPARATOR;
   private static final String INFO_TITLE = "Validation info(s) :" + LINE_SEPARATOR;
 
-  // The validation items
-  private final List<ValidationItem> items = new ArrayList<>();
-  // The schema breadcrumb
-  private final Deque<CrumbInfo> crumbs = new ArrayDeque<>();
+  private static final int INITIAL_CRUMB_CAPACITY = 16;
+
+  // The maximum number of errors, further errors are dropped
+  private final int maxErrors;
+  // The validation items, allocated on first result
+  private List<ValidationItem> items;
+  private int errorCount;
+  // The schema breadcrumb, allocated on first crumb and reused afterwards
+  private CrumbInfo[] crumbs;
+  private int crumbCount;
+  // The breadcrumb as shared path nodes, built on first result only
+  private transient CrumbNode[] crumbNodes;
   // The current validation severity
   private ValidationSeverity validationSeverity = ValidationSeverity.NONE;
 
+  public ValidationResults() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Create results collecting at most the given number of errors.
+   * Further errors are dropped, the results stay invalid.
+   *
+   * @param maxErrors The maximum number of errors. Must be positive.
+   */
+  public ValidationResults(int maxErrors) {
+    if (maxErrors < 1) {
+      throw new IllegalArgumentException("maxErrors must be positive.");
+    }
+
+    this.maxErrors = maxErrors;
+  }
+
   /**
    * Add a result.
    *
@@ -33,9 +61,8 @@ public class ValidationResults implements Serializable {
    * @param msgArgs message arguments to get formatted message.
    */
   public void add(ValidationResult result, Object... msgArgs) {
-    items.add(new ValidationItem(result, crumbs, msgArgs));
-    if (result.severity().gt(validationSeverity)) {
-      validationSeverity = result.severity();
+    if (acceptItem(result.severity())) {
+      getOrCreateItems().add(new ValidationItem(result, currentCrumbNode(), msgArgs));
     }
   }
 
@@ -47,9 +74,12 @@ public class ValidationResults implements Serializable {
    * @param msgArgs   message arguments to get formatted message.
    */
   public void add(CrumbInfo crumbInfo, ValidationResult result, Object... msgArgs) {
-    items.add(new ValidationItem(result, crumbs, crumbInfo, msgArgs));
-    if (result.severity().gt(validationSeverity)) {
-      validationSeverity = result.severity();
+    if (acceptItem(result.severity())) {
+      CrumbNode crumbNode = currentCrumbNode();
+      if (crumbInfo != null) {
+        crumbNode = new CrumbNode(crumbNode, crumbInfo);
+      }
+      getOrCreateItems().add(new ValidationItem(result, crumbNode, msgArgs));
     }
   }
 
@@ -59,7 +89,11 @@ public class ValidationResults implements Serializable {
    * @param results The stack to append. Must be non {@code null}.
    */
   public void add(ValidationResults results) {
-    items.addAll(results.items);
+    if (results.items == null) {
+      return;
+    }
+
+    addItems(results.items);
 
     if (results.severity().gt(validationSeverity)) {
       validationSeverity = results.severity();
@@ -73,11 +107,12 @@ public class ValidationResults implements Serializable {
    * @param results      The stack to append. Must be non {@code null}.
    */
   public void add(Collection<CrumbInfo> parentCrumbs, ValidationResults results) {
-    // Add parent crumbs
-    for (ValidationItem item : results.items) {
-      item.crumbs.addAll(0, parentCrumbs);
+    if (results.items == null) {
+      return;
     }
 
+    addParentCrumbs(parentCrumbs, results.items);
+
     add(results);
   }
 
@@ -88,16 +123,20 @@ public class ValidationResults implements Serializable {
    * @param resultItems  The stack to append. Must be non {@code null}.
    */
   public void add(Collection<ValidationResults.CrumbInfo> parentCrumbs, Collection<ValidationResults.ValidationItem> resultItems) {
-    // Add parent crumbs & update severity
-    for (ValidationItem item : resultItems) {
-      item.crumbs.addAll(0, parentCrumbs);
+    if (resultItems.isEmpty()) {
+      return;
+    }
 
+    addParentCrumbs(parentCrumbs, resultItems);
+
+    // Update severity
+    for (ValidationItem item : resultItems) {
       if (item.severity().gt(validationSeverity)) {
         validationSeverity = item.severity();
       }
     }
 
-    items.addAll(resultItems);
+    addItems(resultItems);
   }
 
   /**
@@ -106,13 +145,21 @@ public class ValidationResults implements Serializable {
    * @return The current breadcrumb.
    */
   public Collection<CrumbInfo> crumbs() {
-    return Collections.unmodifiableCollection(crumbs);
+    if (crumbCount == 0) {
+      return Collections.emptyList();
+    }
+
+    return Collections.unmodifiableList(Arrays.asList(crumbs).subList(0, crumbCount));
   }
 
   /**
    * Get the individual results as view.
    */
   public List<ValidationItem> items() {
+    if (items == null) {
+      return Collections.emptyList();
+    }
+
     return Collections.unmodifiableList(items);
   }
 
@@ -122,6 +169,10 @@ public class ValidationResults implements Serializable {
    * @param severity filter items with the given severity.
    */
   public List<ValidationItem> items(ValidationSeverity severity) {
+    if (items == null) {
+      return Collections.emptyList();
+    }
+
     return Collections.unmodifiableList(items
       .stream()
       .filter(item -> severity == item.severity())
@@ -144,16 +195,52 @@ public class ValidationResults implements Serializable {
    * @param code      The code to run with the appended crumb.
    */
   public void withCrumb(CrumbInfo crumbInfo, Runnable code) {
-    if (crumbInfo != null) {
-      crumbs.addLast(crumbInfo);
-    }
+    pushCrumb(crumbInfo);
 
     try {
       code.run();
     } finally {
-      if (crumbInfo != null) {
-        crumbs.pollLast();
-      }
+      popCrumb(crumbInfo);
+    }
+  }
+
+  /**
+   * Append a crumb to the current breadcrumb.
+   * This is the allocation-free counterpart of {@link #withCrumb(CrumbInfo, Runnable)},
+   * each call must be balanced by {@link #popCrumb(CrumbInfo)} with the same crumb.
+   *
+   * @param crumbInfo The crumb to append, ignored if {@code null}.
+   */
+  public void pushCrumb(CrumbInfo crumbInfo) {
+    if (crumbInfo == null) {
+      return;
+    }
+
+    if (crumbs == null) {
+      crumbs = new CrumbInfo[INITIAL_CRUMB_CAPACITY];
+    } else if (crumbCount == crumbs.length) {
+      crumbs = Arrays.copyOf(crumbs, crumbCount << 1);
+    }
+
+    if (crumbNodes != null && crumbCount < crumbNodes.length) {
+      crumbNodes[crumbCount] = null;
+    }
+    crumbs[crumbCount++] = crumbInfo;
+  }
+
+  /**
+   * Remove the last crumb appended with {@link #pushCrumb(CrumbInfo)}.
+   *
+   * @param crumbInfo The crumb given to {@link #pushCrumb(CrumbInfo)}, ignored if {@code null}.
+   */
+  public void popCrumb(CrumbInfo crumbInfo) {
+    if (crumbInfo == null) {
+      return;
+    }
+
+    crumbs[--crumbCount] = null;
+    if (crumbNodes != null && crumbCount < crumbNodes.length) {
+      crumbNodes[crumbCount] = null;
     }
   }
 
@@ -172,7 +259,140 @@ public class ValidationResults implements Serializable {
    * @return The number of items in the current stack.
    */
   public int size() {
-    return items.size();
+    return items != null ? items.size() : 0;
+  }
+
+  /**
+   * Check if the maximum number of errors is reached.
+   * Validation can stop here, further errors are dropped.
+   *
+   * @return {@code true} if the maximum number of errors is reached.
+   */
+  public boolean isMaxErrorsReached() {
+    return errorCount >= maxErrors;
+  }
+
+  /**
+   * Get the maximum number of errors collected by these results.
+   *
+   * @return The maximum number of errors, {@code Integer.MAX_VALUE} when unbounded.
+   */
+  public int maxErrors() {
+    return maxErrors;
+  }
+
+  private List<ValidationItem> getOrCreateItems() {
+    if (items == null) {
+      items = new ArrayList<>();
+    }
+
+    return items;
+  }
+
+  private boolean acceptItem(ValidationSeverity severity) {
+    if (severity.gt(validationSeverity)) {
+      validationSeverity = severity;
+    }
+
+    if (severity == ValidationSeverity.ERROR) {
+      if (errorCount >= maxErrors) {
+        return false;
+      }
+      errorCount++;
+    }
+
+    return true;
+  }
+
+  private void addItems(Collection<ValidationItem> resultItems) {
+    List<ValidationItem> currentItems = getOrCreateItems();
+
+    for (ValidationItem item : resultItems) {
+      if (item.severity() == ValidationSeverity.ERROR) {
+        if (errorCount >= maxErrors) {
+          continue;
+        }
+        errorCount++;
+      }
+      currentItems.add(item);
+    }
+  }
+
+  /**
+   * Get the node of the current breadcrumb.
+   * Nodes are built from the last shared one, so items added under the same crumbs share their path.
+   */
+  private CrumbNode currentCrumbNode() {
+    if (crumbCount == 0) {
+      return null;
+    }
+
+    if (crumbNodes == null) {
+      crumbNodes = new CrumbNode[crumbs.length];
+    } else if (crumbNodes.length < crumbCount) {
+      crumbNodes = Arrays.copyOf(crumbNodes, crumbs.length);
+    }
+
+    // Nodes are valid up to the first null one
+    int index = crumbCount - 1;
+    while (index >= 0 && crumbNodes[index] == null) {
+      index--;
+    }
+
+    for (int i = index + 1; i < crumbCount; i++) {
+      crumbNodes[i] = new CrumbNode((i != 0) ? crumbNodes[i - 1] : null, crumbs[i]);
+    }
+
+    return crumbNodes[crumbCount - 1];
+  }
+
+  private void addParentCrumbs(Collection<CrumbInfo> parentCrumbs, Collection<ValidationItem> resultItems) {
+    if (parentCrumbs.isEmpty()) {
+      return;
+    }
+
+    // Parent path, shared with the current breadcrumb while equal (i.e. the parent crumbs are the current ones)
+    CrumbNode parentNode = null;
+    int index = 0;
+    boolean isCurrent = true;
+    for (CrumbInfo crumbInfo : parentCrumbs) {
+      isCurrent &= index < crumbCount && crumbs[index] == crumbInfo;
+      if (isCurrent) {
+        parentNode = currentCrumbNode(index + 1);
+      } else {
+        parentNode = new CrumbNode(parentNode, crumbInfo);
+      }
+      index++;
+    }
+
+    Map<CrumbNode, CrumbNode> rebasedNodes = new IdentityHashMap<>();
+    for (ValidationItem item : resultItems) {
+      item.setCrumbNode(rebase(item.crumbNode, parentNode, rebasedNodes));
+    }
+  }
+
+  private CrumbNode currentCrumbNode(int count) {
+    int currentCount = crumbCount;
+    try {
+      crumbCount = count;
+      return currentCrumbNode();
+    } finally {
+      crumbCount = currentCount;
+    }
+  }
+
+  private static CrumbNode rebase(CrumbNode node, CrumbNode parentNode, Map<CrumbNode, CrumbNode> rebasedNodes) {
+    if (node == null) {
+      return parentNode;
+    }
+
+    CrumbNode rebased = rebasedNodes.get(node);
+    if (rebased == null) {
+      rebased = new CrumbNode(rebase(node.parent, parentNode, rebasedNodes), node.crumbInfo);
+      rebasedNodes.put(node, rebased);
+    }
+
+    return rebased;
   }
 
   /**
@@ -180,20 +400,41 @@ public class ValidationResults implements Serializable {
    */
   @Override
   public String toString() {
+    return toString(null);
+  }
+
+  /**
+   * Summarize all the results with errors, warnings and info sections.
+   *
+   * @param locale The locale of the messages, {@code null} for default messages.
+   * @see ValidationItem#message(Locale)
+   */
+  public String toString(Locale locale) {
+    return toString(locale, null);
+  }
+
+  /**
+   * Summarize all the results with errors, warnings and info sections.
+   *
+   * @param locale   The locale of the messages, {@code null} for default messages.
+   * @param provider The provider of the message templates, {@code null} for default templates.
+   * @see ValidationItem#message(Locale, ValidationMessageProvider)
+   */
+  public String toString(Locale locale, ValidationMessageProvider provider) {
     StringBuilder errBuilder = new StringBuilder();
     StringBuilder warnBuilder = new StringBuilder();
     StringBuilder infoBuilder = new StringBuilder();
 
-    for (ValidationResults.ValidationItem item : items) {
+    for (ValidationResults.ValidationItem item : items()) {
       switch (item.severity()) {
         case ERROR:
-          errBuilder.append(item.toString()).append(LINE_SEPARATOR);
+          errBuilder.append(item.toString(locale, provider)).append(LINE_SEPARATOR);
           break;
         case WARNING:
-          warnBuilder.append(item.toString()).append(LINE_SEPARATOR);
+          warnBuilder.append(item.toString(locale, provider)).append(LINE_SEPARATOR);
           break;
         default://case INFO:
-          infoBuilder.append(item.toString()).append(LINE_SEPARATOR);
+          infoBuilder.append(item.toString(locale, provider)).append(LINE_SEPARATOR);
           break;
       }
     }
@@ -213,156 +454,329 @@ public class ValidationResults implements Serializable {
 
   /**
    * Validation result with crumbs and values to format message.
+   * <p/>
+   * The message is formatted on first call, results dropped by validators (i.e. failing oneOf branches) never are.
    */
   public static class ValidationItem extends ValidationResult implements Serializable {
-    private static final long serialVersionUID = 7905122048950251207L;
+    private static final long serialVersionUID = 7905122048950251208L;
 
-    private static final String SCHEMA_CRUMB_START = "<";
-    private static final String SCHEMA_CRUMB_END = ">";
-    private static final String DOT = ".";
-    private static final String SLASH = "/";
+    private static final char SCHEMA_CRUMB_START = '<';
+    private static final char SCHEMA_CRUMB_END = '>';
+    private static final char DOT = '.';
+    private static final char SLASH = '/';
     private static final String SEMI_COLON = ": ";
 
-    private final List<CrumbInfo> crumbs;
+    // Last node of the breadcrumb, parent nodes are shared with other items
+    private CrumbNode crumbNode;
+    // Source result & message arguments, formatted on first call
+    // Arguments are kept as immutable values only, to not retain validated data
+    private final transient ValidationResult result;
+    private final transient Object[] msgArgs;
+    private String message;
+    // Paths, built on first call
+    private transient String dataCrumbs;
+    private transient String dataJsonPointer;
+    private transient String schemaCrumbs;
+
+    ValidationItem(ValidationResult result, CrumbNode crumbNode, Object... msgArgs) {
+      super(result.severity(), result.code(), result.message());
+
+      this.result = result;
+      this.msgArgs = toImmutableArgs(msgArgs);
+      this.crumbNode = crumbNode;
+    }
 
-    ValidationItem(ValidationResult result, Collection<CrumbInfo> crumbs, Object... msgArgs) {
-      this(result, crumbs, null, msgArgs);
+    /**
+     * Get the message formatted with the item arguments.
+     * The message is formatted on first call.
+     *
+     * @return The message.
+     */
+    @Override
+    public String message() {
+      if (message == null && result != null) {
+        message = (msgArgs.length != 0) ? String.format(result.message(), msgArgs) : result.message();
+      }
+
+      return message;
+    }
+
+    /**
+     * Get the message rendered in the given locale with the default template.
+     *
+     * @param locale The locale of the message, {@code null} for the default message.
+     * @return The message.
+     */
+    public String message(Locale locale) {
+      return message(locale, null);
     }
 
-    ValidationItem(ValidationResult result, Collection<CrumbInfo> crumbs, CrumbInfo crumbInfo, Object... msgArgs) {
-      super(
-        result.severity(),
-        result.code(),
-        (msgArgs.length != 0) ? String.format(result.message(), msgArgs) : result.message());
+    /**
+     * Get the message rendered in the given locale.
+     * The template is given by the message provider, if any, or is the default one.
+     *
+     * @param locale   The locale of the message, {@code null} for the default message.
+     * @param provider The provider of the message template, {@code null} for the default template.
+     * @return The message.
+     */
+    public String message(Locale locale, ValidationMessageProvider provider) {
+      if (locale == null || result == null) {
+        return message();
+      }
 
-      this.crumbs = new ArrayList<>(crumbs);
-      if (crumbInfo != null) {
-        this.crumbs.add(crumbInfo);
+      String template = (provider != null) ? provider.getMessage(result, locale) : null;
+      if (template == null) {
+        template = result.message();
       }
+
+      return (msgArgs.length != 0) ? String.format(locale, template, msgArgs) : template;
     }
 
     /**
-     * Compile and get data path.
-     * Warning, the compilation occurs at each call.
+     * Get data path.
+     * The path is built on first call.
      *
      * @return The data path.
      */
     public String dataCrumbs() {
-      StringJoiner joiner = new StringJoiner(DOT);
-
-      for (CrumbInfo crumb : crumbs) {
-        if (crumb.crumb() == null) continue;
-
-        if (!crumb.isSchemaCrumb()) {
-          joiner.add(crumb.crumb());
+      if (dataCrumbs == null) {
+        StringBuilder builder = new StringBuilder();
+
+        for (CrumbInfo crumb : crumbs()) {
+          if (!crumb.isSchemaCrumb() && crumb.hasCrumb()) {
+            if (builder.length() != 0) {
+              builder.append(DOT);
+            }
+            crumb.appendTo(builder);
+          }
         }
+
+        dataCrumbs = builder.toString();
       }
 
-      return joiner.toString();
+      return dataCrumbs;
     }
 
     /**
-     * Compile and get data path as JSON string representation.<br/>
+     * Get data path as JSON string representation.<br/>
      * https://tools.ietf.org/html/rfc6901<br/>
-     * Warning, the compilation occurs at each call.
+     * The path is built on first call.
      *
      * @return The data path as JSON string representation.
      */
     public String dataJsonPointer() {
-      StringJoiner joiner = new StringJoiner(SLASH);
-      boolean hasCrumb = false;
-
-      for (CrumbInfo crumb : crumbs) {
-        if (crumb.crumb() == null) continue;
-
-        if (!crumb.isSchemaCrumb()) {
-          hasCrumb = true;
-          joiner.add(escapeJsonPointerFragment(crumb.crumb()));
+      if (dataJsonPointer == null) {
+        StringBuilder builder = new StringBuilder();
+
+        for (CrumbInfo crumb : crumbs()) {
+          if (!crumb.isSchemaCrumb() && crumb.hasCrumb()) {
+            builder.append(SLASH);
+            if (crumb.index() != -1) {
+              builder.append(crumb.index());
+            } else {
+              appendJsonPointerFragment(builder, crumb.crumb());
+            }
+          }
         }
-      }
 
-      if (hasCrumb) {
-        return SLASH + joiner.toString();
-      } else {
-        return joiner.toString();
+        dataJsonPointer = builder.toString();
       }
+
+      return dataJsonPointer;
     }
 
     /**
-     * Compile and get schema path definition.
-     * Warning, the compilation occurs at each call.
+     * Get schema path definition.
+     * The path is built on first call.
      *
      * @return The schema path.
      */
     public String schemaCrumbs() {
-      StringJoiner joiner = new StringJoiner(DOT);
-
-      for (CrumbInfo crumb : crumbs) {
-        if (crumb.crumb() == null) continue;
-
-        if (crumb.isSchemaCrumb()) {
-          joiner.add(SCHEMA_CRUMB_START + crumb.crumb() + SCHEMA_CRUMB_END);
-        } else {
-          joiner.add(crumb.crumb());
+      if (schemaCrumbs == null) {
+        StringBuilder builder = new StringBuilder();
+
+        for (CrumbInfo crumb : crumbs()) {
+          if (!crumb.hasCrumb()) continue;
+
+          if (builder.length() != 0) {
+            builder.append(DOT);
+          }
+          if (crumb.isSchemaCrumb()) {
+            builder.append(SCHEMA_CRUMB_START).append(crumb.crumb()).append(SCHEMA_CRUMB_END);
+          } else {
+            crumb.appendTo(builder);
+          }
         }
+
+        schemaCrumbs = builder.toString();
       }
 
-      return joiner.toString();
+      return schemaCrumbs;
     }
 
     @Override
     public String toString() {
+      return toString(null);
+    }
+
+    /**
+     * Get the item representation with the message rendered in the given locale.
+     *
+     * @param locale The locale of the message, {@code null} for the default message.
+     * @see #message(Locale)
+     */
+    public String toString(Locale locale) {
+      return toString(locale, null);
+    }
+
+    /**
+     * Get the item representation with the message rendered in the given locale.
+     *
+     * @param locale   The locale of the message, {@code null} for the default message.
+     * @param provider The provider of the message template, {@code null} for the default template.
+     * @see #message(Locale, ValidationMessageProvider)
+     */
+    public String toString(Locale locale, ValidationMessageProvider provider) {
       StringBuilder strBuilder = new StringBuilder();
 
       if (!dataCrumbs().isEmpty()) {
         strBuilder.append(dataCrumbs()).append(SEMI_COLON);
       }
 
-      strBuilder.append(message());
+      strBuilder.append(message(locale, provider));
       if (code() != null) {
         strBuilder.append(CODE_START_LBL).append(code()).append(CODE_END_LBL);
       }
       String schemaCrumbs = schemaCrumbs();
       if (schemaCrumbs != null && !schemaCrumbs.isEmpty()) {
-        strBuilder.append(LINE_SEPARATOR).append(FROM).append(schemaCrumbs());
+        strBuilder.append(LINE_SEPARATOR).append(FROM).append(schemaCrumbs);
       }
 
       return strBuilder.toString();
     }
 
-    private static String escapeJsonPointerFragment(String fragment) {
-      StringBuilder sb = new StringBuilder();
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      // Arguments are not serialized
+      message();
+      out.defaultWriteObject();
+    }
+
+    void setCrumbNode(CrumbNode crumbNode) {
+      this.crumbNode = crumbNode;
+      dataCrumbs = null;
+      dataJsonPointer = null;
+      schemaCrumbs = null;
+    }
+
+    // Crumbs from root
+    private CrumbInfo[] crumbs() {
+      CrumbInfo[] crumbs = new CrumbInfo[(crumbNode != null) ? crumbNode.depth : 0];
+
+      for (CrumbNode node = crumbNode; node != null; node = node.parent) {
+        crumbs[node.depth - 1] = node.crumbInfo;
+      }
+
+      return crumbs;
+    }
+
+    // Other values than primitives are replaced by their string representation, as formatted with %s
+    private static Object[] toImmutableArgs(Object[] msgArgs) {
+      Object[] args = msgArgs;
+
+      for (int i = 0; i < msgArgs.length; i++) {
+        Object arg = msgArgs[i];
+        if (arg != null && !(arg instanceof String || arg instanceof Number || arg instanceof Boolean || arg instanceof Character)) {
+          if (args == msgArgs) {
+            args = msgArgs.clone();
+          }
+          args[i] = String.valueOf(arg);
+        }
+      }
+
+      return args;
+    }
 
+    private static void appendJsonPointerFragment(StringBuilder builder, String fragment) {
       for (int i = 0, end = fragment.length(); i < end; ++i) {
         char c = fragment.charAt(i);
         if (c == '/') {
-          sb.append("~1");
+          builder.append("~1");
         } else if (c == '~') {
-          sb.append("~0");
+          builder.append("~0");
         } else {
-          sb.append(c);
+          builder.append(c);
         }
       }
-
-      return sb.toString();
     }
   }
 
-  public static class CrumbInfo {
+  public static class CrumbInfo implements Serializable {
+    private static final long serialVersionUID = 3719220517328201541L;
+
     private final String crumb;
+    private final int index;
     private final boolean isSchemaCrumb;
 
     public CrumbInfo(String crumb, boolean isSchemaCrumb) {
       this.crumb = crumb;
+      this.index = -1;
       this.isSchemaCrumb = isSchemaCrumb;
     }
 
+    /**
+     * Create a data crumb of an array index.
+     * The index is kept as is and written only when paths are built.
+     *
+     * @param index The array index. Must be positive or zero.
+     */
+    public CrumbInfo(int index) {
+      this.crumb = null;
+      this.index = index;
+      this.isSchemaCrumb = false;
+    }
+
     public String crumb() {
-      return crumb;
+      return (index != -1) ? Integer.toString(index) : crumb;
+    }
+
+    /**
+     * @return The array index or -1 if this is not an index crumb.
+     */
+    public int index() {
+      return index;
     }
 
     public boolean isSchemaCrumb() {
       return isSchemaCrumb;
     }
+
+    private boolean hasCrumb() {
+      return crumb != null || index != -1;
+    }
+
+    private void appendTo(StringBuilder builder) {
+      if (index != -1) {
+        builder.append(index);
+      } else {
+        builder.append(crumb);
+      }
+    }
+  }
+
+  /**
+   * Persistent breadcrumb node, the parent nodes are shared by the items.
+   */
+  private static final class CrumbNode implements Serializable {
+    private static final long serialVersionUID = 6021894416521304117L;
+
+    private final CrumbNode parent;
+    private final CrumbInfo crumbInfo;
+    private final int depth;
+
+    CrumbNode(CrumbNode parent, CrumbInfo crumbInfo) {
+      this.parent = parent;
+      this.crumbInfo = crumbInfo;
+      this.depth = (parent != null) ? parent.depth + 1 : 1;
+    }
   }
 }
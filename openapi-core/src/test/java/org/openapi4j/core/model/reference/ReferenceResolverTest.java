@@ -11,6 +11,9 @@ import java.net.URL;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.*;
 
@@ -137,4 +140,60 @@ public class ReferenceResolverTest {
     Reference reference = apiContext.getReferenceRegistry().getRef("#/paths/~12.0~1repositories~1{username}~1{slug}~1pullrequests~1{pid}/get");
     assertNotNull(reference.getContent());
   }
+
+  @Test
+  public void concurrentLoading() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      checkConcurrentLoading("/reference/valid/reference.yaml", executor);
+      checkConcurrentLoading("/reference/valid/identical_relative_ref/api.yaml", executor);
+      // Executor running in the calling thread
+      checkConcurrentLoading("/reference/valid/reference.yaml", Runnable::run);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = ResolutionException.class)
+  public void concurrentLoadingCyclingExtern() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      URL specPath = getClass().getResource("/reference/invalid/reference-cycling-extern1.yaml");
+      new OAI3Context(specPath, null, null, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = ResolutionException.class)
+  public void concurrentLoadingExternInvalid() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      URL specPath = getClass().getResource("/reference/invalid/reference-extern-missing.yaml");
+      new OAI3Context(specPath, null, null, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkConcurrentLoading(String path, Executor executor) throws Exception {
+    URL specPath = getClass().getResource(path);
+
+    OAI3Context sequentialContext = new OAI3Context(specPath);
+    OAI3Context concurrentContext = new OAI3Context(specPath, null, null, executor);
+
+    assertEquals(sequentialContext.getBaseDocument(), concurrentContext.getBaseDocument());
+    assertEquals(
+      sequentialContext.getReferenceRegistry().getReferences().size(),
+      concurrentContext.getReferenceRegistry().getReferences().size());
+
+    for (Reference reference : sequentialContext.getReferenceRegistry().getReferences()) {
+      Reference concurrentReference = concurrentContext.getReferenceRegistry().getRef(reference.getCanonicalRef());
+      assertNotNull(concurrentReference);
+      assertEquals(reference.getContent(), concurrentReference.getContent());
+    }
+  }
 }
@@ -0,0 +1,159 @@
+package org.openapi4j.core.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class DocumentCacheTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @After
+  public void tearDown() {
+    TreeUtil.setDocumentCache(null);
+  }
+
+  @Test
+  public void fileRevalidation() throws Exception {
+    File file = folder.newFile("doc.yaml");
+    Files.write(file.toPath(), "foo: 1".getBytes(StandardCharsets.UTF_8));
+    URL url = file.toURI().toURL();
+
+    CountingCache cache = new CountingCache(new MemoryDocumentCache(10));
+    TreeUtil.setDocumentCache(cache);
+
+    JsonNode first = TreeUtil.load(url);
+    assertEquals(1, first.get("foo").intValue());
+    assertEquals(1, cache.puts.get());
+
+    // Returned nodes are not shared
+    ((ObjectNode) first).put("foo", 3);
+    JsonNode second = TreeUtil.load(url);
+    assertEquals(1, second.get("foo").intValue());
+    assertEquals(1, cache.puts.get());
+
+    // Changed file
+    Files.write(file.toPath(), "foo: 2".getBytes(StandardCharsets.UTF_8));
+    assertTrue(file.setLastModified(file.lastModified() + 10000));
+    assertEquals(2, TreeUtil.load(url).get("foo").intValue());
+    assertEquals(2, cache.puts.get());
+  }
+
+  @Test
+  public void httpRevalidation() throws Exception {
+    final AtomicInteger fullResponses = new AtomicInteger();
+    final AtomicInteger notModifiedResponses = new AtomicInteger();
+    final String[] etag = {"\"v1\""};
+    final String[] body = {"{\"foo\": 1}"};
+
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/doc.json", exchange -> {
+      if (etag[0].equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        notModifiedResponses.incrementAndGet();
+        exchange.sendResponseHeaders(304, -1);
+      } else {
+        fullResponses.incrementAndGet();
+        byte[] bytes = body[0].getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("ETag", etag[0]);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+          os.write(bytes);
+        }
+      }
+      exchange.close();
+    });
+    server.start();
+
+    try {
+      URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/doc.json");
+      TreeUtil.setDocumentCache(new MemoryDocumentCache(10));
+
+      assertEquals(1, TreeUtil.load(url).get("foo").intValue());
+      assertEquals(1, TreeUtil.load(url).get("foo").intValue());
+      assertEquals(1, fullResponses.get());
+      assertEquals(1, notModifiedResponses.get());
+
+      // Changed document
+      etag[0] = "\"v2\"";
+      body[0] = "{\"foo\": 2}";
+      assertEquals(2, TreeUtil.load(url).get("foo").intValue());
+      assertEquals(2, fullResponses.get());
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void memoryEviction() throws Exception {
+    MemoryDocumentCache cache = new MemoryDocumentCache(2);
+    URL url1 = new URL("http://localhost/1");
+    URL url2 = new URL("http://localhost/2");
+    URL url3 = new URL("http://localhost/3");
+
+    cache.put(url1, entry("1"));
+    cache.put(url2, entry("2"));
+    assertNotNull(cache.get(url1)); // url2 is now the eldest
+    cache.put(url3, entry("3"));
+
+    assertNotNull(cache.get(url1));
+    assertNull(cache.get(url2));
+    assertNotNull(cache.get(url3));
+  }
+
+  @Test
+  public void fileCache() throws Exception {
+    File directory = new File(folder.getRoot(), "cache");
+    URL url = new URL("http://localhost/doc.yaml");
+
+    FileDocumentCache cache = new FileDocumentCache(directory);
+    assertNull(cache.get(url));
+    cache.put(url, entry("value"));
+
+    // From another instance
+    DocumentCache.Entry entry = new FileDocumentCache(directory).get(url);
+    assertNotNull(entry);
+    assertEquals("value", entry.getContent().get("foo").textValue());
+    assertEquals("\"etag\"", entry.getEtag());
+    assertNull(entry.getLastModified());
+    assertEquals(0, entry.getFileModified());
+  }
+
+  private DocumentCache.Entry entry(String value) {
+    ObjectNode content = TreeUtil.json.createObjectNode().put("foo", value);
+    return new DocumentCache.Entry(content, "\"etag\"", null, 0);
+  }
+
+  private static class CountingCache implements DocumentCache {
+    private final DocumentCache delegate;
+    private final AtomicInteger puts = new AtomicInteger();
+
+    CountingCache(DocumentCache delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Entry get(URL url) {
+      return delegate.get(url);
+    }
+
+    @Override
+    public void put(URL url, Entry entry) {
+      puts.incrementAndGet();
+      delegate.put(url, entry);
+    }
+  }
+}
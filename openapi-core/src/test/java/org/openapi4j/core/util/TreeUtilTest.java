@@ -3,21 +3,30 @@ package org.openapi4j.core.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import org.json.JSONException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.openapi4j.core.exception.DecodeException;
 import org.openapi4j.core.exception.EncodeException;
 import org.openapi4j.core.model.AuthOption;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.*;
 
 public class TreeUtilTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Test(expected = EncodeException.class)
   public void toJson() throws EncodeException, JSONException {
     Map<String, Object> map = new HashMap<>();
@@ -86,4 +95,45 @@ public class TreeUtilTest {
   public void emptyDocumentValid() throws DecodeException {
     assertTrue(TreeUtil.load(getClass().getResource("/parsing/empty.yaml")) instanceof MissingNode);
   }
+
+  @Test
+  public void contentDetection() throws Exception {
+    assertEquals(1, loadContent(" \r\n\t{\"foo\": 1}").get("foo").intValue());
+    assertEquals(1, loadContent("\n[1]").get(0).intValue());
+    assertEquals(1, loadContent("foo: 1").get("foo").intValue());
+    // Flow mapping must be read as YAML when not the first character
+    assertEquals(1, loadContent("# comment\n{foo: 1}").get("foo").intValue());
+  }
+
+  @Test
+  public void mappedLoad() throws Exception {
+    // Over the mapping threshold
+    StringBuilder json = new StringBuilder("{\"items\": [");
+    StringBuilder yaml = new StringBuilder("items:\n");
+    for (int i = 0; i < 20000; i++) {
+      json.append(i == 0 ? "" : ",").append(i);
+      yaml.append("- ").append(i).append('\n');
+    }
+    json.append("]}");
+
+    JsonNode node = loadContent(json.toString());
+    assertEquals(20000, node.get("items").size());
+    assertEquals(19999, node.get("items").get(19999).intValue());
+
+    node = loadContent(yaml.toString());
+    assertEquals(20000, node.get("items").size());
+
+    Map<?, ?> map = TreeUtil.load(writeContent(json.toString()), Map.class);
+    assertEquals(20000, ((List<?>) map.get("items")).size());
+  }
+
+  private JsonNode loadContent(String content) throws Exception {
+    return TreeUtil.load(writeContent(content));
+  }
+
+  private URL writeContent(String content) throws Exception {
+    File file = folder.newFile();
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file.toURI().toURL();
+  }
 }
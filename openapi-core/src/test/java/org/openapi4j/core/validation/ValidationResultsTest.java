@@ -2,6 +2,11 @@ package org.openapi4j.core.validation;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -52,6 +57,154 @@ public class ValidationResultsTest {
     latch2.await(2, TimeUnit.SECONDS);
   }
 
+  @Test
+  public void pushPopCrumbs() {
+    ValidationResults results = new ValidationResults();
+    assertTrue(results.crumbs().isEmpty());
+    assertTrue(results.items().isEmpty());
+    assertTrue(results.items(ValidationSeverity.ERROR).isEmpty());
+
+    // Grow over initial capacity
+    ValidationResults.CrumbInfo[] crumbs = new ValidationResults.CrumbInfo[40];
+    for (int i = 0; i < crumbs.length; i++) {
+      crumbs[i] = new ValidationResults.CrumbInfo("c" + i, false);
+      results.pushCrumb(crumbs[i]);
+    }
+    results.pushCrumb(null);
+    assertEquals(40, results.crumbs().size());
+
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 1, "error"));
+    assertEquals(40, results.items().get(0).dataCrumbs().split("\\.").length);
+
+    results.popCrumb(null);
+    for (int i = crumbs.length - 1; i >= 0; i--) {
+      results.popCrumb(crumbs[i]);
+    }
+    assertTrue(results.crumbs().isEmpty());
+
+    // Items keep their own breadcrumb
+    assertEquals("c0", results.items().get(0).dataCrumbs().split("\\.")[0]);
+  }
+
+  @Test
+  public void sharedCrumbs() {
+    ValidationResults results = new ValidationResults();
+    ValidationResults.CrumbInfo parent = new ValidationResults.CrumbInfo("parent", false);
+    ValidationResults.CrumbInfo schema = new ValidationResults.CrumbInfo("items", true);
+
+    results.pushCrumb(parent);
+    results.pushCrumb(schema);
+    for (int i = 0; i < 3; i++) {
+      results.add(new ValidationResults.CrumbInfo(i), new ValidationResult(ValidationSeverity.ERROR, 1, "error"));
+    }
+    results.popCrumb(schema);
+    results.add(new ValidationResults.CrumbInfo("a/b~c", false), new ValidationResult(ValidationSeverity.ERROR, 2, "error"));
+    results.popCrumb(parent);
+
+    assertEquals("parent.2", results.items().get(2).dataCrumbs());
+    assertEquals("/parent/2", results.items().get(2).dataJsonPointer());
+    assertEquals("parent.<items>.2", results.items().get(2).schemaCrumbs());
+    assertEquals("/parent/a~1b~0c", results.items().get(3).dataJsonPointer());
+    assertEquals(2, new ValidationResults.CrumbInfo(2).index());
+    assertEquals("2", new ValidationResults.CrumbInfo(2).crumb());
+
+    // Parent crumbs are prepended to all items
+    ValidationResults root = new ValidationResults();
+    ValidationResults.CrumbInfo body = new ValidationResults.CrumbInfo("body", false);
+    root.pushCrumb(body);
+    root.add(root.crumbs(), results);
+    root.add(new ValidationResult(ValidationSeverity.ERROR, 3, "error"));
+    root.popCrumb(body);
+
+    assertEquals(5, root.size());
+    assertEquals("/body/parent/0", root.items().get(0).dataJsonPointer());
+    assertEquals("body.parent.a/b~c", root.items().get(3).dataCrumbs());
+    assertEquals("body", root.items().get(4).dataCrumbs());
+  }
+
+  @Test
+  public void maxErrors() {
+    ValidationResults results = new ValidationResults(2);
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 1, "error"));
+    results.add(new ValidationResult(ValidationSeverity.WARNING, 2, "warn"));
+    assertFalse(results.isMaxErrorsReached());
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 3, "error"));
+    assertTrue(results.isMaxErrorsReached());
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 4, "error"));
+
+    ValidationResults others = new ValidationResults();
+    others.add(new ValidationResult(ValidationSeverity.ERROR, 5, "error"));
+    others.add(new ValidationResult(ValidationSeverity.INFO, 6, "info"));
+    results.add(others);
+
+    assertEquals(4, results.size());
+    assertEquals(Integer.valueOf(6), results.items().get(3).code());
+    assertFalse(results.isValid());
+    assertEquals(2, results.maxErrors());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMaxErrors() {
+    new ValidationResults(0);
+  }
+
+  @Test
+  public void lazyMessage() throws Exception {
+    // Message is formatted on first call only, other arguments than primitives are captured as strings when added
+    Object arg = new Object() {
+      private int count;
+
+      @Override
+      public String toString() {
+        return "arg" + (++count);
+      }
+    };
+
+    ValidationResults results = new ValidationResults();
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 1, "Value '%s' is invalid."), arg);
+    assertEquals("arg2", arg.toString());
+
+    ValidationResults.ValidationItem item = results.items().get(0);
+    assertEquals("Value 'arg1' is invalid.", item.message());
+    assertEquals("Value 'arg1' is invalid.", item.message());
+    assertEquals("Value 'arg1' is invalid. (code: 1)", item.toString());
+
+    // Formatted message is serialized
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(item);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      ValidationResults.ValidationItem copy = (ValidationResults.ValidationItem) in.readObject();
+      assertEquals("Value 'arg1' is invalid.", copy.message());
+      assertEquals("Value 'arg1' is invalid.", copy.message(Locale.FRENCH));
+    }
+  }
+
+  @Test
+  public void localizedMessage() {
+    ValidationResults results = new ValidationResults();
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 1, "Value %.1f is invalid."), 1.5);
+    results.add(new ValidationResult(ValidationSeverity.ERROR, 2, "Value is missing."));
+    ValidationResults.ValidationItem item = results.items().get(0);
+
+    // Default template with locale
+    assertEquals("Value 1,5 is invalid.", item.message(Locale.FRENCH));
+
+    ValidationMessageProvider provider = (result, locale) ->
+      (result.code() == 1 && Locale.FRENCH.getLanguage().equals(locale.getLanguage()))
+        ? "La valeur %.1f est invalide."
+        : null;
+
+    assertEquals("La valeur 1,5 est invalide.", item.message(Locale.FRENCH, provider));
+    assertEquals("Value 1.5 is invalid.", item.message(Locale.ENGLISH, provider));
+    assertEquals("Value is missing.", results.items().get(1).message(Locale.FRENCH, provider));
+    assertTrue(results.toString(Locale.FRENCH, provider).contains("La valeur 1,5 est invalide. (code: 1)"));
+    assertEquals(item.message(), item.message(null, provider));
+    // Provider is only used by the given call
+    assertEquals("Value 1,5 is invalid.", item.message(Locale.FRENCH));
+  }
+
   @Test
   public void provideString() {
     ValidationResults results = new ValidationResults();
@@ -14,6 +14,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -95,6 +96,25 @@ public interface OpenApi3RouterFactory {
   @Fluent
   OpenApi3RouterFactory addOperationHandler(String operationId, BodyHandler bodyHandler, Handler<RoutingContext> handler) throws ResolutionException;
 
+  /**
+   * Validate requests on a worker pool instead of the event loop when the body is large.
+   * Requests with a smaller body are still validated on the event loop.
+   * By default, all requests are validated on the event loop.
+   *
+   * @param bodySizeThreshold The body size (in bytes) from which the validation is offloaded. 0 to offload all requests.
+   * @param workerExecutor    The dedicated worker pool. If {@code null}, the Vert.x worker pool is used.
+   * @return this
+   */
+  @Fluent
+  OpenApi3RouterFactory setBlockingValidation(int bodySizeThreshold, WorkerExecutor workerExecutor);
+
+  /**
+   * Get the metrics of the offloaded validations.
+   *
+   * @return The metrics or {@code null} if validation is not offloaded.
+   */
+  ValidationPoolMetrics getValidationPoolMetrics();
+
   /**
    * Construct a new router based on spec. It will fail if you are trying to mount a spec with security schemes
    * without assigned handlers<br/>
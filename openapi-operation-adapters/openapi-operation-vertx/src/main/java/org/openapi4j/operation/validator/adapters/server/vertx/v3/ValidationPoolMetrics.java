@@ -0,0 +1,21 @@
+package org.openapi4j.operation.validator.adapters.server.vertx.v3;
+
+/**
+ * Metrics of the request validations offloaded from the event loop.
+ */
+public interface ValidationPoolMetrics {
+  /**
+   * @return The number of validations waiting for a worker thread.
+   */
+  int getQueueSize();
+
+  /**
+   * @return The number of validations currently running on a worker thread.
+   */
+  int getActiveCount();
+
+  /**
+   * @return The total number of offloaded validations since the router creation.
+   */
+  long getOffloadedCount();
+}
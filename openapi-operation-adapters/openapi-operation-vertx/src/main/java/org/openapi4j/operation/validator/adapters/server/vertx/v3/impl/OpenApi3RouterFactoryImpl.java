@@ -3,6 +3,7 @@ package org.openapi4j.operation.validator.adapters.server.vertx.v3.impl;
 import org.openapi4j.core.exception.ResolutionException;
 import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.operation.validator.adapters.server.vertx.v3.OpenApi3RouterFactory;
+import org.openapi4j.operation.validator.adapters.server.vertx.v3.ValidationPoolMetrics;
 import org.openapi4j.operation.validator.util.PathResolver;
 import org.openapi4j.operation.validator.validation.OperationValidator;
 import org.openapi4j.operation.validator.validation.RequestValidator;
@@ -23,6 +24,7 @@ import java.util.regex.Pattern;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
@@ -38,6 +40,7 @@ public class OpenApi3RouterFactoryImpl implements OpenApi3RouterFactory {
   private final RequestValidator rqValidator;
   private final Map<String, OperationSpec> operationSpecs;
   private final SecurityRequirementHelper securityHelper;
+  private ValidationOffloader offloader;
 
   public OpenApi3RouterFactoryImpl(Vertx vertx, OpenApi3 openApi) {
     this(vertx, new ValidationContext<>(openApi.getContext()), openApi);
@@ -82,6 +85,17 @@ public class OpenApi3RouterFactoryImpl implements OpenApi3RouterFactory {
     return this;
   }
 
+  @Override
+  public OpenApi3RouterFactory setBlockingValidation(int bodySizeThreshold, WorkerExecutor workerExecutor) {
+    offloader = new ValidationOffloader(vertx, bodySizeThreshold, workerExecutor);
+    return this;
+  }
+
+  @Override
+  public ValidationPoolMetrics getValidationPoolMetrics() {
+    return offloader;
+  }
+
   @Override
   public Router getRouter() throws ResolutionException {
     Router router = Router.router(vertx);
@@ -104,7 +118,7 @@ public class OpenApi3RouterFactoryImpl implements OpenApi3RouterFactory {
         route.handler(handler);
       }
       // Content validation handler
-      route.handler(new OperationValidationHandler(rqValidator, operationSpec.pathModel, opValidator.getOperation()));
+      route.handler(new OperationValidationHandler(rqValidator, operationSpec.pathModel, opValidator.getOperation(), offloader));
       // User handlers
       for (Handler<RoutingContext> handler : operationSpec.handlers) {
         route.handler(handler);
@@ -1,6 +1,7 @@
 package org.openapi4j.operation.validator.adapters.server.vertx.v3.impl;
 
 import org.openapi4j.core.validation.ValidationException;
+import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.RequestParameters;
 import org.openapi4j.operation.validator.validation.RequestValidator;
 import org.openapi4j.parser.model.v3.Operation;
@@ -15,21 +16,43 @@ class OperationValidationHandler implements Handler<RoutingContext> {
   private final RequestValidator requestValidator;
   private final Path path;
   private final Operation operation;
+  private final ValidationOffloader offloader;
 
-  OperationValidationHandler(RequestValidator requestValidator, Path path, Operation operation) {
+  OperationValidationHandler(RequestValidator requestValidator, Path path, Operation operation, ValidationOffloader offloader) {
     this.requestValidator = requestValidator;
     this.path = path;
     this.operation = operation;
+    this.offloader = offloader;
   }
 
   @Override
   public void handle(RoutingContext rc) {
+    Request request = VertxRequest.of(rc);
+
+    if (offloader != null && offloader.shouldOffload(rc)) {
+      offloader.execute(
+        () -> requestValidator.validate(request, path, operation),
+        result -> {
+          if (result.succeeded()) {
+            next(rc, result.result());
+          } else if (result.cause() instanceof ValidationException) {
+            rc.fail(400, result.cause());
+          } else {
+            rc.fail(result.cause());
+          }
+        });
+      return;
+    }
+
     try {
-      RequestParameters rqParameters = requestValidator.validate(VertxRequest.of(rc), path, operation);
-      rc.data().put(RQ_PARAMETERS, rqParameters);
-      rc.next();
+      next(rc, requestValidator.validate(request, path, operation));
     } catch (ValidationException e) {
       rc.fail(400, e);
     }
   }
+
+  private void next(RoutingContext rc, RequestParameters rqParameters) {
+    rc.data().put(RQ_PARAMETERS, rqParameters);
+    rc.next();
+  }
 }
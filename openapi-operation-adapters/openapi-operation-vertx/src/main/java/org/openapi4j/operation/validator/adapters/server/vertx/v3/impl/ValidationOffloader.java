@@ -0,0 +1,92 @@
+package org.openapi4j.operation.validator.adapters.server.vertx.v3.impl;
+
+import org.openapi4j.operation.validator.adapters.server.vertx.v3.ValidationPoolMetrics;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Runs the validation of large bodies on a worker pool instead of the event loop.
+ */
+class ValidationOffloader implements ValidationPoolMetrics {
+  private final Vertx vertx;
+  private final int bodySizeThreshold;
+  private final WorkerExecutor workerExecutor;
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicLong offloadedCount = new AtomicLong();
+
+  ValidationOffloader(Vertx vertx, int bodySizeThreshold, WorkerExecutor workerExecutor) {
+    this.vertx = vertx;
+    this.bodySizeThreshold = bodySizeThreshold;
+    this.workerExecutor = workerExecutor;
+  }
+
+  /**
+   * @return {@code true} if the body of the request is large enough to be validated on the worker pool.
+   */
+  boolean shouldOffload(RoutingContext rc) {
+    Buffer body = rc.getBody();
+    int bodySize = body != null ? body.length() : 0;
+
+    return bodySize >= bodySizeThreshold;
+  }
+
+  <T> void execute(Callable<T> code, Handler<AsyncResult<T>> resultHandler) {
+    offloadedCount.incrementAndGet();
+    queueSize.incrementAndGet();
+
+    Handler<Promise<T>> blockingCode = promise -> {
+      queueSize.decrementAndGet();
+      activeCount.incrementAndGet();
+
+      T result = null;
+      Exception failure = null;
+      try {
+        result = code.call();
+      } catch (Exception e) {
+        failure = e;
+      } finally {
+        // Not active anymore once the response can be sent
+        activeCount.decrementAndGet();
+      }
+
+      if (failure != null) {
+        promise.fail(failure);
+      } else {
+        promise.complete(result);
+      }
+    };
+
+    // Requests are independent, no need to order them.
+    if (workerExecutor != null) {
+      workerExecutor.executeBlocking(blockingCode, false, resultHandler);
+    } else {
+      vertx.executeBlocking(blockingCode, false, resultHandler);
+    }
+  }
+
+  @Override
+  public int getQueueSize() {
+    return queueSize.get();
+  }
+
+  @Override
+  public int getActiveCount() {
+    return activeCount.get();
+  }
+
+  @Override
+  public long getOffloadedCount() {
+    return offloadedCount.get();
+  }
+}
@@ -38,8 +38,9 @@ public abstract class VertxRequest implements Request {
     // Query string or body
     if (HttpMethod.GET.equals(serverRq.method())) {
       builder.query(serverRq.query());
-    } else {
-      builder.body(Body.from(rc.getBodyAsString()));
+    } else if (rc.getBody() != null) {
+      // Read from the Netty buffer, no copy
+      builder.body(Body.from(rc.getBody().getByteBuf().nioBuffer()));
     }
 
     // Cookies
@@ -13,6 +13,7 @@ import org.skyscreamer.jsonassert.JSONCompareMode;
 
 import java.net.URL;
 
+import io.vertx.core.Context;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.unit.Async;
@@ -111,6 +112,34 @@ public class OpenApi3RouterFactoryTest extends VertxTestBase {
     testRequest(context, HttpMethod.POST, "/rqBodyCheck", 400, "application/json", Buffer.buffer("{\"wrong\": \"bar\"}"));
   }
 
+  @Test
+  public void checkBlockingValidationTest(TestContext context) throws Exception {
+    loadSpec(context, "/api.yaml");
+
+    routerFactory.setBlockingValidation(16, vertx.createSharedWorkerExecutor("validation", 2));
+    routerFactory.addOperationHandler("rqBodyCheck", BodyHandler.create(), rc -> {
+      context.assertTrue(Context.isOnEventLoopThread());
+      context.assertNotNull(rc.get("rqParameters"));
+      rc
+        .response()
+        .setStatusCode(200)
+        .end();
+    });
+
+    Router router = routerFactory.getRouter();
+
+    startServer(context, vertx, router);
+    // Below threshold
+    testRequest(context, HttpMethod.POST, "/rqBodyCheck", 200, "application/json", Buffer.buffer("{\"foo\": \"b\"}"));
+    context.assertEquals(0L, routerFactory.getValidationPoolMetrics().getOffloadedCount());
+    // Above threshold
+    testRequest(context, HttpMethod.POST, "/rqBodyCheck", 200, "application/json", Buffer.buffer("{\"foo\": \"bar bar bar\"}"));
+    testRequest(context, HttpMethod.POST, "/rqBodyCheck", 400, "application/json", Buffer.buffer("{\"wrong\": \"bar bar bar\"}"));
+    context.assertEquals(2L, routerFactory.getValidationPoolMetrics().getOffloadedCount());
+    context.assertEquals(0, routerFactory.getValidationPoolMetrics().getQueueSize());
+    context.assertEquals(0, routerFactory.getValidationPoolMetrics().getActiveCount());
+  }
+
   @Test
   public void mountRegexHandlerTest(TestContext context) throws Exception {
     loadSpec(context, "/api.yaml");
@@ -1,14 +1,19 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.core.util.ByteBufferInputStream;
 import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
 import org.openapi4j.parser.model.v3.MediaType;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 
@@ -19,12 +24,14 @@ public class Body {
   private final JsonNode bodyNode;
   private final String bodyStr;
   private final InputStream bodyIs;
+  private final ByteBuffer bodyBuffer;
 
   private Body(Object body) {
     this.bodyObject = body;
     this.bodyNode = null;
     this.bodyStr = null;
     this.bodyIs = null;
+    this.bodyBuffer = null;
   }
 
   private Body(JsonNode bodyNode) {
@@ -32,6 +39,7 @@ public class Body {
     this.bodyNode = bodyNode;
     this.bodyStr = null;
     this.bodyIs = null;
+    this.bodyBuffer = null;
   }
 
   private Body(String body) {
@@ -39,6 +47,7 @@ public class Body {
     this.bodyNode = null;
     this.bodyStr = body;
     this.bodyIs = null;
+    this.bodyBuffer = null;
   }
 
   private Body(InputStream bodyIs) {
@@ -46,6 +55,15 @@ public class Body {
     this.bodyNode = null;
     this.bodyStr = null;
     this.bodyIs = bodyIs;
+    this.bodyBuffer = null;
+  }
+
+  private Body(ByteBuffer bodyBuffer) {
+    this.bodyObject = null;
+    this.bodyNode = null;
+    this.bodyStr = null;
+    this.bodyIs = null;
+    this.bodyBuffer = bodyBuffer;
   }
 
   /**
@@ -100,15 +118,91 @@ public class Body {
     return new Body(body);
   }
 
+  /**
+   * Constructs a body from the given byte buffer.
+   * The content is read directly from the buffer (heap or direct), without intermediate copy.
+   * This is the preferred way when the raw content is already available as bytes
+   * (i.e. Netty {@code ByteBuf.nioBuffer()}).
+   * <p/>
+   * The remaining bytes of the buffer are the content. The buffer position is not altered.
+   *
+   * @param body The given body buffer.
+   * @return The constructed body.
+   */
+  public static Body from(ByteBuffer body) {
+    requireNonNull(body, BODY_REQUIRED_ERR_MSG);
+    return new Body(body);
+  }
+
+  public JsonNode getContentAsNode(final OAIContext context,
+                                   final MediaType mediaType,
+                                   final String rawContentType) throws IOException {
+    return getContentAsNode(context, mediaType, null, rawContentType);
+  }
+
+  /**
+   * Get the content with the plans prepared for the media type.
+   *
+   * @param formPlans The plans prepared for the media type, {@code null} to compute them for this conversion.
+   * @see ContentConverter#prepare(OAIContext, MediaType, String)
+   */
   public JsonNode getContentAsNode(final OAIContext context,
                                    final MediaType mediaType,
+                                   final List<ParameterPlan> formPlans,
                                    final String rawContentType) throws IOException {
     if (bodyNode != null) {
       return bodyNode;
     } else if (bodyObject != null) {
       return TreeUtil.json.convertValue(bodyObject, JsonNode.class);
     } else {
-      return ContentConverter.convert(context, mediaType, rawContentType, bodyIs, bodyStr);
+      return ContentConverter.convert(context, mediaType, formPlans, rawContentType, getContentAsStream(), bodyStr);
+    }
+  }
+
+  /**
+   * Get the multipart content while streaming the parts.
+   * Binary parts are only counted, without being buffered.
+   *
+   * @param maxPartSize The size limit in bytes of each part, negative for unlimited.
+   * @param maxSize     The size limit in bytes of the whole content, negative for unlimited.
+   * @see ContentConverter#multipartToNode(OAIContext, MediaType, String, InputStream, String, long, long)
+   */
+  public JsonNode getMultipartContentAsNode(final OAIContext context,
+                                            final MediaType mediaType,
+                                            final String rawContentType,
+                                            final long maxPartSize,
+                                            final long maxSize) throws IOException {
+    if (bodyNode != null || bodyObject != null) {
+      return getContentAsNode(context, mediaType, rawContentType);
     }
+
+    return ContentConverter.multipartToNode(context, mediaType, rawContentType, getContentAsStream(), bodyStr, maxPartSize, maxSize);
+  }
+
+  /**
+   * Get a JSON parser over the raw content.
+   * This allows to validate JSON content without building the whole tree.
+   *
+   * @return The parser or {@code null} if the body is not given as string or stream.
+   */
+  public JsonParser getContentAsJsonParser() throws IOException {
+    if (bodyBuffer != null && bodyBuffer.hasArray()) {
+      return TreeUtil.json.getFactory().createParser(
+        bodyBuffer.array(),
+        bodyBuffer.arrayOffset() + bodyBuffer.position(),
+        bodyBuffer.remaining());
+    } else if (bodyBuffer != null) {
+      return TreeUtil.json.getFactory().createParser(getContentAsStream());
+    } else if (bodyIs != null) {
+      return TreeUtil.json.getFactory().createParser(bodyIs);
+    } else if (bodyStr != null) {
+      return TreeUtil.json.getFactory().createParser(bodyStr);
+    } else {
+      return null;
+    }
+  }
+
+  private InputStream getContentAsStream() {
+    return bodyBuffer != null ? new ByteBufferInputStream(bodyBuffer) : bodyIs;
   }
 }
@@ -20,7 +20,7 @@ public class PathResolver {
     RETURN_FIXED_PATTERN
   }
 
-  private static final Pattern OAS_PATH_PARAMETERS_PATTERN = Pattern.compile("\\{[.;?*+]*([^{}.;?*+]+)[^}]*}");
+  static final Pattern OAS_PATH_PARAMETERS_PATTERN = Pattern.compile("\\{[.;?*+]*([^{}.;?*+]+)[^}]*}");
   private static final Pattern ABSOLUTE_URL_PATTERN = Pattern.compile("\\A[a-z0-9.+-]+://.*", Pattern.CASE_INSENSITIVE);
   private static final Pattern PATH_URL_PATTERN = Pattern.compile("(?:([^:/?#]+):)?(?://([^/?#]*))?([^?#]*)(?:\\?([^#]*))?(?:#(.*))?");
   private static final String START_STRING_ANCHOR = "^";
@@ -145,6 +145,28 @@ public class PathResolver {
     return patterns;
   }
 
+  /**
+   * Build the full template paths for the given template path prefixed by the server base paths.
+   *
+   * @param context      The context of the Document
+   * @param servers      The servers of the Document, may be {@code null}.
+   * @param templatePath The template path.
+   * @return The full template paths.
+   */
+  public List<String> buildPaths(OAIContext context, List<Server> servers, String templatePath) {
+    List<String> paths = new ArrayList<>();
+
+    if (servers == null) {
+      paths.add(templatePath);
+    } else {
+      for (Server server : servers) {
+        paths.add(getResolvedPath(context, server.getUrl()) + templatePath);
+      }
+    }
+
+    return paths;
+  }
+
   public Pattern findPathPattern(Collection<Pattern> pathPatterns, String requestPath) {
     if (requestPath == null || requestPath.isEmpty()) {
       requestPath = "/";
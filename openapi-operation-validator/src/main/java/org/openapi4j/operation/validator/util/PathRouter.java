@@ -0,0 +1,223 @@
+package org.openapi4j.operation.validator.util;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.openapi4j.operation.validator.util.PathResolver.Options.END_STRING;
+import static org.openapi4j.operation.validator.util.PathResolver.Options.START_STRING;
+
+/**
+ * Segment tree (trie) of path templates.
+ * <p/>
+ * Each level of the tree is a path segment (i.e. a value between two '/').
+ * Lookup is done segment by segment, so the cost depends on the path depth
+ * instead of the number of registered templates.
+ * <p/>
+ * As required by the specification, literal segments are preferred over templated ones.
+ * Path parameter values are captured during lookup.
+ *
+ * @param <T> The type of the value associated with a path template.
+ */
+public class PathRouter<T> {
+  private static final char SEGMENT_SEPARATOR = '/';
+
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Register the given template path with the associated value.
+   * If the exact same template is already registered, the first value is kept.
+   *
+   * @param templatePath The full template path (including the base path from servers).
+   * @param value        The value to associate with the template.
+   */
+  public void add(String templatePath, T value) {
+    Node<T> node = root;
+
+    int start = 0;
+    while (true) {
+      int end = templatePath.indexOf(SEGMENT_SEPARATOR, start);
+      boolean last = end == -1;
+      if (last) end = templatePath.length();
+
+      node = node.getOrCreateChild(templatePath.substring(start, end));
+
+      if (last) break;
+      start = end + 1;
+    }
+
+    if (node.value == null) {
+      node.value = value;
+      node.templatePath = templatePath;
+    }
+  }
+
+  /**
+   * Find the value associated with the template matching the given path.
+   *
+   * @param requestPath The path to match.
+   * @return The match with the captured path parameters or {@code null} if no template matches.
+   */
+  public Match<T> find(String requestPath) {
+    if (requestPath == null || requestPath.isEmpty()) {
+      requestPath = "/";
+    }
+
+    Map<String, String> parameters = new HashMap<>();
+    Node<T> node = find(root, requestPath, 0, parameters);
+
+    return node != null ? new Match<>(node.value, node.templatePath, parameters) : null;
+  }
+
+  private Node<T> find(Node<T> node, String path, int start, Map<String, String> parameters) {
+    int end = path.indexOf(SEGMENT_SEPARATOR, start);
+    boolean last = end == -1;
+    if (last) end = path.length();
+
+    String segment = path.substring(start, end);
+
+    // Literal first
+    Node<T> child = node.literals.get(segment);
+    if (child != null) {
+      Node<T> found = last ? child.terminal() : find(child, path, end + 1, parameters);
+      if (found != null) {
+        return found;
+      }
+    }
+
+    // Templates, parameter values can't be empty
+    if (segment.isEmpty()) {
+      return null;
+    }
+
+    for (TemplateSegment<T> template : node.templates) {
+      Matcher matcher = null;
+      if (template.pattern != null) {
+        matcher = template.pattern.matcher(segment);
+        if (!matcher.matches()) {
+          continue;
+        }
+      }
+
+      Node<T> found = last ? template.node.terminal() : find(template.node, path, end + 1, parameters);
+      if (found != null) {
+        template.capture(segment, matcher, parameters);
+        return found;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * The result of a lookup.
+   *
+   * @param <T> The type of the value associated with a path template.
+   */
+  public static class Match<T> {
+    private final T value;
+    private final String templatePath;
+    private final Map<String, String> parameters;
+
+    Match(T value, String templatePath, Map<String, String> parameters) {
+      this.value = value;
+      this.templatePath = templatePath;
+      this.parameters = parameters;
+    }
+
+    /**
+     * @return The value associated with the matching template.
+     */
+    public T getValue() {
+      return value;
+    }
+
+    /**
+     * @return The template path that matched.
+     */
+    public String getTemplatePath() {
+      return templatePath;
+    }
+
+    /**
+     * @return The raw path parameter values mapped by parameter name.
+     */
+    public Map<String, String> getParameters() {
+      return parameters;
+    }
+  }
+
+  private static class Node<T> {
+    private final Map<String, Node<T>> literals = new HashMap<>();
+    // Templates with fixed parts (i.e. {name}.json) are placed before single parameter ones (i.e. {name}).
+    private final List<TemplateSegment<T>> templates = new ArrayList<>();
+    private T value;
+    private String templatePath;
+
+    private Node<T> terminal() {
+      return value != null ? this : null;
+    }
+
+    private Node<T> getOrCreateChild(String segment) {
+      Matcher matcher = PathResolver.OAS_PATH_PARAMETERS_PATTERN.matcher(segment);
+      if (!matcher.find()) {
+        return literals.computeIfAbsent(segment, s -> new Node<>());
+      }
+
+      for (TemplateSegment<T> template : templates) {
+        if (template.segment.equals(segment)) {
+          return template.node;
+        }
+      }
+
+      TemplateSegment<T> template;
+      if (matcher.start() == 0 && matcher.end() == segment.length()) {
+        template = new TemplateSegment<>(segment, null, Collections.singletonList(matcher.group(1)));
+        templates.add(template);
+      } else {
+        List<String> names = new ArrayList<>();
+        do {
+          names.add(matcher.group(1));
+        } while (matcher.find());
+
+        Pattern pattern = PathResolver.instance().solve(segment, EnumSet.of(START_STRING, END_STRING));
+        template = new TemplateSegment<>(segment, pattern, names);
+        templates.add(countMixedTemplates(), template);
+      }
+
+      return template.node;
+    }
+
+    private int countMixedTemplates() {
+      int index = 0;
+      while (index < templates.size() && templates.get(index).pattern != null) {
+        index++;
+      }
+      return index;
+    }
+  }
+
+  private static class TemplateSegment<T> {
+    private final String segment;
+    // null when the parameter is the whole segment
+    private final Pattern pattern;
+    private final List<String> paramNames;
+    private final Node<T> node = new Node<>();
+
+    private TemplateSegment(String segment, Pattern pattern, List<String> paramNames) {
+      this.segment = segment;
+      this.pattern = pattern;
+      this.paramNames = paramNames;
+    }
+
+    private void capture(String value, Matcher matcher, Map<String, String> parameters) {
+      if (matcher == null) {
+        parameters.put(paramNames.get(0), value);
+      } else {
+        for (String paramName : paramNames) {
+          parameters.put(paramName, matcher.group(PathResolver.instance().getParamGroupName(paramName)));
+        }
+      }
+    }
+  }
+}
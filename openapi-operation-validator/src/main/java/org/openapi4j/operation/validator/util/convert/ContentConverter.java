@@ -9,9 +9,12 @@ import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * Convert supported media types to abstract tree nodes.
@@ -20,12 +23,54 @@ public final class ContentConverter {
   private ContentConverter() {
   }
 
+  /**
+   * Pre-compute what can be resolved from the specification for the given media type.
+   * The result is meant to be kept by the caller and given to each conversion.
+   *
+   * @param context        The context of the specification.
+   * @param mediaType      The media type from specification.
+   * @param rawContentType The content type of the media type.
+   * @return The decoding plans of the form properties, {@code null} if the content is not form url-encoded.
+   */
+  public static List<ParameterPlan> prepare(final OAIContext context,
+                                            final MediaType mediaType,
+                                            final String rawContentType) {
+
+    if (mediaType != null && ContentType.isFormUrlEncoded(rawContentType)) {
+      return FormUrlConverter.instance().createParameterPlans(context, mediaType);
+    }
+
+    return null;
+  }
+
   public static JsonNode convert(final OAIContext context,
                                  final MediaType mediaType,
                                  final String rawContentType,
                                  final InputStream is,
                                  final String str) throws IOException {
 
+    return convert(context, mediaType, null, rawContentType, is, str);
+  }
+
+  /**
+   * Convert the content with the plans computed by {@link #prepare(OAIContext, MediaType, String)}.
+   *
+   * @param context        The context of the specification.
+   * @param mediaType      The media type from specification.
+   * @param formPlans      The prepared plans, {@code null} to compute them for this conversion.
+   * @param rawContentType The content type of the body.
+   * @param is             The content as stream, or {@code null}.
+   * @param str            The content as string, used when stream is {@code null}.
+   * @return The converted content.
+   * @throws IOException on reading error.
+   */
+  public static JsonNode convert(final OAIContext context,
+                                 final MediaType mediaType,
+                                 final List<ParameterPlan> formPlans,
+                                 final String rawContentType,
+                                 final InputStream is,
+                                 final String str) throws IOException {
+
     String contentType = ContentType.getTypeOnly(rawContentType);
 
     if (ContentType.isJson(contentType)) {
@@ -35,9 +80,14 @@ public final class ContentConverter {
         ? xmlToNode(context, mediaType.getSchema(), is)
         : xmlToNode(context, mediaType.getSchema(), str);
     } else if (ContentType.isFormUrlEncoded(contentType)) {
+      List<ParameterPlan> plans
+        = (formPlans != null)
+        ? formPlans
+        : FormUrlConverter.instance().createParameterPlans(context, mediaType);
+
       return is != null
-        ? formUrlEncodedToNode(context, mediaType, rawContentType, is)
-        : formUrlEncodedToNode(context, mediaType, rawContentType, str);
+        ? formUrlEncodedToNode(context, plans, rawContentType, is)
+        : formUrlEncodedToNode(context, plans, rawContentType, str);
     } else if (ContentType.isMultipartFormData(contentType)) {
       return is != null
         ? multipartToNode(context, mediaType, rawContentType, is)
@@ -47,14 +97,42 @@ public final class ContentConverter {
     }
   }
 
-  private static JsonNode formUrlEncodedToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, final InputStream content) throws IOException {
+  /**
+   * Convert the multipart content while streaming the parts.
+   * Binary parts (files and string/binary properties) are only counted,
+   * their value is a {@link org.openapi4j.schema.validator.StreamedBinaryNode} labelled with the file name of the part (empty if none).
+   *
+   * @param context        The context of the specification.
+   * @param mediaType      The media type from specification.
+   * @param rawContentType The content type of the body.
+   * @param is             The content as stream, or {@code null}.
+   * @param str            The content as string, used when stream is {@code null}.
+   * @param maxPartSize    The size limit in bytes of each part, negative for unlimited.
+   * @param maxSize        The size limit in bytes of the whole content, negative for unlimited.
+   * @return The converted content.
+   * @throws IOException on reading error, {@link ContentSizeException} on exceeded limits.
+   */
+  public static JsonNode multipartToNode(final OAIContext context,
+                                         final MediaType mediaType,
+                                         final String rawContentType,
+                                         final InputStream is,
+                                         final String str,
+                                         final long maxPartSize,
+                                         final long maxSize) throws IOException {
+
+    String encoding = ContentType.getCharSet(rawContentType);
+    InputStream content = is != null ? is : new ByteArrayInputStream(str.getBytes(encoding));
+    return MultipartConverter.instance().convertStreaming(context, mediaType, content, rawContentType, encoding, maxPartSize, maxSize);
+  }
+
+  private static JsonNode formUrlEncodedToNode(final OAIContext context, final List<ParameterPlan> plans, final String rawContentType, final InputStream content) throws IOException {
     String encoding = ContentType.getCharSet(rawContentType);
-    return FormUrlConverter.instance().convert(context, mediaType, content, encoding);
+    return FormUrlConverter.instance().convert(context, plans, content, encoding);
   }
 
-  private static JsonNode formUrlEncodedToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, final String content) {
+  private static JsonNode formUrlEncodedToNode(final OAIContext context, final List<ParameterPlan> plans, final String rawContentType, final String content) {
     String encoding = ContentType.getCharSet(rawContentType);
-    return FormUrlConverter.instance().convert(context, mediaType, content, encoding);
+    return FormUrlConverter.instance().convert(context, plans, content, encoding);
   }
 
   private static JsonNode multipartToNode(final OAIContext context, final MediaType mediaType, final String rawContentType, InputStream content) throws IOException {
@@ -76,10 +154,10 @@ public final class ContentConverter {
   }
 
   private static JsonNode xmlToNode(final OAIContext context, final Schema schema, InputStream content) throws IOException {
-    return XmlConverter.instance().convert(context, schema, IOUtil.toString(content, StandardCharsets.UTF_8.name()));
+    return XmlConverter.instance().convert(context, schema, new InputStreamReader(content, StandardCharsets.UTF_8));
   }
 
-  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, String content) {
+  private static JsonNode xmlToNode(final OAIContext context, final Schema schema, String content) throws IOException {
     return XmlConverter.instance().convert(context, schema, content);
   }
 
@@ -0,0 +1,38 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import java.io.IOException;
+
+/**
+ * Content or part of content exceeding a size limit.
+ */
+public class ContentSizeException extends IOException {
+  private static final long serialVersionUID = -2837495130217546811L;
+
+  private final String partName;
+  private final long limit;
+
+  /**
+   * @param message  The detail message.
+   * @param partName The name of the exceeding part, {@code null} for the whole content.
+   * @param limit    The exceeded limit in bytes.
+   */
+  public ContentSizeException(String message, String partName, long limit) {
+    super(message);
+    this.partName = partName;
+    this.limit = limit;
+  }
+
+  /**
+   * @return The name of the exceeding part, {@code null} for the whole content.
+   */
+  public String getPartName() {
+    return partName;
+  }
+
+  /**
+   * @return The exceeded limit in bytes.
+   */
+  public long getLimit() {
+    return limit;
+  }
+}
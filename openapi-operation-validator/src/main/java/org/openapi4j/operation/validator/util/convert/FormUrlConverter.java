@@ -22,10 +22,6 @@ import java.util.*;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_STRING;
 
 class FormUrlConverter {
-  private static final String SPACE_DELIMITED = "spaceDelimited";
-  private static final String PIPE_DELIMITED = "pipeDelimited";
-  private static final String DEEP_OBJECT = "deepObject";
-
   private static final FormUrlConverter INSTANCE = new FormUrlConverter();
 
   public static FormUrlConverter instance() {
@@ -35,19 +31,17 @@ class FormUrlConverter {
   private FormUrlConverter() {
   }
 
-  private final Map<MediaType, Map<String, AbsParameter<Parameter>>> mediaTypesCache = new HashMap<>();
-
-  JsonNode convert(final OAIContext context, final MediaType mediaType, final InputStream body, String encoding) throws IOException {
-    return convert(context, mediaType, IOUtil.toString(body, encoding), encoding);
+  JsonNode convert(final OAIContext context, final List<ParameterPlan> plans, final InputStream body, String encoding) throws IOException {
+    return convert(context, plans, IOUtil.toString(body, encoding), encoding);
   }
 
-  JsonNode convert(final OAIContext context, final MediaType mediaType, final String body, final String encoding) {
-    Map<String, JsonNode> params = convert(context, getParameters(mediaType), body, true, encoding);
+  JsonNode convert(final OAIContext context, final List<ParameterPlan> plans, final String body, final String encoding) {
+    Map<String, JsonNode> params = convert(context, plans, body, true, encoding);
     return TreeUtil.json.valueToTree(params);
   }
 
   Map<String, JsonNode> convert(final OAIContext context,
-                                final Map<String, AbsParameter<Parameter>> specParameters,
+                                final List<ParameterPlan> plans,
                                 final String body,
                                 final boolean caseSensitive,
                                 final String encoding) {
@@ -61,28 +55,27 @@ class FormUrlConverter {
     MultiStringMap<String> paramPairs = getParameterPairs(body, caseSensitive, encoding);
     List<String> visitedParams = new ArrayList<>();
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String specParamName = paramEntry.getKey();
-      final AbsParameter<Parameter> specParam = paramEntry.getValue();
+    for (ParameterPlan plan : plans) {
+      final String specParamName = plan.getName();
+      final AbsParameter<?> specParam = plan.getDecodingParameter();
       final JsonNode convertedValue;
 
-      if (specParam.getSchema() != null) {
-        final String style = specParam.getStyle();
-
-        if (SPACE_DELIMITED.equals(style)) {
+      switch (plan.getStyle()) {
+        case SPACE_DELIMITED:
           convertedValue = SpaceDelimitedStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
-        } else if (PIPE_DELIMITED.equals(style)) {
+          break;
+        case PIPE_DELIMITED:
           convertedValue = PipeDelimitedStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
-        } else if (DEEP_OBJECT.equals(style)) {
+          break;
+        case DEEP_OBJECT:
           convertedValue = DeepObjectStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
-        } else { // form is the default
-          if (specParam.getExplode() == null) { // explode true is default
-            specParam.setExplode(true);
-          }
+          break;
+        case CONTENT:
+          convertedValue = getValueFromContentType(context, plan, paramPairs, visitedParams);
+          break;
+        default: // form is the default
           convertedValue = FormStyleConverter.instance().convert(context, specParam, specParamName, paramPairs, visitedParams);
-        }
-      } else {
-        convertedValue = getValueFromContentType(context, specParam.getContentMediaTypes(), specParamName, paramPairs, visitedParams);
+          break;
       }
 
       if (convertedValue != null) {
@@ -142,38 +135,21 @@ class FormUrlConverter {
   }
 
   private JsonNode getValueFromContentType(final OAIContext context,
-                                           final Map<String, MediaType> mediaTypes,
-                                           final String paramName,
+                                           final ParameterPlan plan,
                                            final MultiStringMap<String> paramPairs,
                                            final List<String> visitedParams) {
 
-    Collection<String> propValues = paramPairs.get(paramName);
+    Collection<String> propValues = paramPairs.get(plan.getName());
     if (propValues == null) {
       return null;
     }
 
-    visitedParams.add(paramName);
-
-    if (mediaTypes != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
-
-        try {
-          return ContentConverter.convert(
-            context,
-            mediaType.getValue(),
-            mediaType.getKey(),
-            null,
-            propValues.stream().findFirst().orElse(null));
-        } catch (IOException e) {
-          return null;
-        }
-      }
-    }
+    visitedParams.add(plan.getName());
 
-    return null;
+    return ParameterConverter.getValueFromContentType(
+      context,
+      plan,
+      propValues.stream().findFirst().orElse(null));
   }
 
   /**
@@ -183,35 +159,32 @@ class FormUrlConverter {
    * - x-www-formurlencoded.
    *
    * @param mediaType The given meida type to transform.
-   * @return The Map of parameters.
+   * @return The decoding plans of the parameters.
    */
-  private Map<String, AbsParameter<Parameter>> getParameters(final MediaType mediaType) {
-    // check cache
-    Map<String, AbsParameter<Parameter>> specParameters = mediaTypesCache.get(mediaType);
-    if (specParameters != null) {
-      return specParameters;
-    }
-
-    // Cache missed
+  List<ParameterPlan> createParameterPlans(final OAIContext context, final MediaType mediaType) {
     Map<String, EncodingProperty> encodings
       = mediaType.getEncodings() != null
       ? mediaType.getEncodings()
       : new HashMap<>();
 
-    specParameters = new HashMap<>();
+    Map<String, AbsParameter<Parameter>> specParameters = new HashMap<>();
 
-    for (Map.Entry<String, Schema> propEntry : mediaType.getSchema().getProperties().entrySet()) {
-      String propName = propEntry.getKey();
+    Map<String, Schema> properties
+      = mediaType.getSchema() != null
+      ? mediaType.getSchema().getProperties()
+      : null;
 
-      specParameters.put(
-        propName,
-        createParameter(encodings, propName, propEntry.getValue()));
-    }
+    if (properties != null) {
+      for (Map.Entry<String, Schema> propEntry : properties.entrySet()) {
+        String propName = propEntry.getKey();
 
-    // Add media type to cache
-    mediaTypesCache.put(mediaType, specParameters);
+        specParameters.put(
+          propName,
+          createParameter(encodings, propName, propEntry.getValue()));
+      }
+    }
 
-    return specParameters;
+    return ParameterPlan.create(context, specParameters, ParameterPlan.IN_QUERY);
   }
 
   private AbsParameter<Parameter> createParameter(final Map<String, EncodingProperty> encodings,
@@ -12,6 +12,7 @@ import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.parser.model.v3.EncodingProperty;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Schema;
+import org.openapi4j.schema.validator.StreamedBinaryNode;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -24,6 +25,8 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
 class MultipartConverter {
   private static final MultipartConverter INSTANCE = new MultipartConverter();
 
+  private static final int BUFFER_SIZE = 8192;
+
   private static final MapType MAP_TYPE = TreeUtil.json.getTypeFactory().constructMapType(
     HashMap.class,
     TreeUtil.json.getTypeFactory().constructType(String.class),
@@ -42,17 +45,47 @@ class MultipartConverter {
   }
 
   JsonNode convert(final OAIContext context, final MediaType mediaType, final InputStream body, final String rawContentType, final String encoding) throws IOException {
+    return convert(context, mediaType, body, rawContentType, encoding, false, -1, -1);
+  }
+
+  /**
+   * Convert the multipart content while streaming the parts.
+   * Binary parts are only counted, the property value is the file name of the part (empty if none)
+   * and its length keywords are checked against the part size.
+   *
+   * @param maxPartSize The size limit in bytes of each part, negative for unlimited.
+   * @param maxSize     The size limit in bytes of the whole content, negative for unlimited.
+   */
+  JsonNode convertStreaming(final OAIContext context, final MediaType mediaType, final InputStream body, final String rawContentType, final String encoding, final long maxPartSize, final long maxSize) throws IOException {
+    return convert(context, mediaType, body, rawContentType, encoding, true, maxPartSize, maxSize);
+  }
+
+  private JsonNode convert(final OAIContext context,
+                           final MediaType mediaType,
+                           final InputStream body,
+                           final String rawContentType,
+                           final String encoding,
+                           final boolean streaming,
+                           final long maxPartSize,
+                           final long maxSize) throws IOException {
+
     UploadContext requestContext = UPLOAD_CONTEXT_INSTANCE.create(body, rawContentType, encoding);
 
+    FileUpload upload = new FileUpload();
+    upload.setFileSizeMax(maxPartSize);
+    upload.setSizeMax(maxSize);
+
     ObjectNode result = JsonNodeFactory.instance.objectNode();
 
     try {
-      FileItemIterator iterator = new FileUpload().getItemIterator(requestContext);
+      FileItemIterator iterator = upload.getItemIterator(requestContext);
       while (iterator.hasNext()) {
         FileItemStream item = iterator.next();
         String name = item.getFieldName();
 
-        if (item.isFormField()) {
+        if (streaming && (!item.isFormField() || isBinary(context, mediaType, name))) {
+          addValue(result, name, countBinary(item));
+        } else if (item.isFormField()) {
           JsonNode convertedValue = mapValue(context, result, mediaType, item, name, encoding);
           if (convertedValue != null) {
             addValue(result, name, convertedValue);
@@ -62,12 +95,62 @@ class MultipartConverter {
         }
       }
     } catch (FileUploadException ex) {
-      throw new IOException(ex);
+      throw toIOException(ex);
+    } catch (FileUploadBase.FileUploadIOException ex) {
+      // Limit exceeded while reading a part
+      throw (ex.getCause() instanceof FileUploadException) ? toIOException((FileUploadException) ex.getCause()) : ex;
     }
 
     return result;
   }
 
+  private IOException toIOException(FileUploadException ex) {
+    if (ex instanceof FileUploadBase.FileSizeLimitExceededException) {
+      FileUploadBase.FileSizeLimitExceededException sizeEx = (FileUploadBase.FileSizeLimitExceededException) ex;
+      return new ContentSizeException(ex.getMessage(), sizeEx.getFieldName(), sizeEx.getPermittedSize());
+    } else if (ex instanceof FileUploadBase.SizeLimitExceededException) {
+      return new ContentSizeException(ex.getMessage(), null, ((FileUploadBase.SizeLimitExceededException) ex).getPermittedSize());
+    }
+
+    return new IOException(ex);
+  }
+
+  private boolean isBinary(OAIContext context, MediaType mediaType, String name) {
+    Schema propSchema = getBinarySchema(context, mediaType, name);
+    return propSchema != null && FORMAT_BINARY.equals(propSchema.getFormat());
+  }
+
+  /**
+   * Get the flat string schema of the given property, or its items schema for arrays.
+   */
+  private Schema getBinarySchema(OAIContext context, MediaType mediaType, String name) {
+    Schema propSchema = mediaType.getSchema().getProperty(name);
+    if (propSchema == null) {
+      return null;
+    }
+
+    propSchema = propSchema.getFlatSchema(context);
+    if (TYPE_ARRAY.equals(propSchema.getSupposedType(context)) && propSchema.getItemsSchema() != null) {
+      propSchema = propSchema.getItemsSchema().getFlatSchema(context);
+    }
+
+    return TYPE_STRING.equals(propSchema.getSupposedType(context)) ? propSchema : null;
+  }
+
+  private JsonNode countBinary(FileItemStream item) throws IOException {
+    long size = 0;
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream is = item.openStream()) {
+      int read;
+      while ((read = is.read(buffer)) != -1) {
+        size += read;
+      }
+    }
+
+    // Length keywords are checked against the size, not the file name
+    return new StreamedBinaryNode(item.getName() != null ? item.getName() : "", size);
+  }
+
   private JsonNode mapValue(OAIContext context, ObjectNode result, MediaType mediaType, FileItemStream item, String name, String encoding) throws IOException {
     Schema propSchema = mediaType.getSchema().getProperty(name);
     String itemContentType = item.getContentType();
@@ -124,6 +207,7 @@ class MultipartConverter {
         if (FORMAT_BINARY.equals(flatSchema.getFormat())) {
           return itemContentType.equals("application/octet-stream") ? 1 : 0;
         }
+        return itemContentType.equals("text/plain") ? 1 : 0;
       default:
         // for other primitive types - text/plain
         return itemContentType.equals("text/plain") ? 1 : 0;
@@ -203,13 +287,14 @@ class MultipartConverter {
     }
 
     @Override
+    @SuppressWarnings("deprecation")
     public int getContentLength() {
-      return 0;
+      return -1;
     }
 
     @Override
     public long contentLength() {
-      return 0;
+      return -1;
     }
 
     @Override
@@ -10,14 +10,13 @@ import org.openapi4j.operation.validator.util.convert.style.MatrixStyleConverter
 import org.openapi4j.operation.validator.util.convert.style.SimpleStyleConverter;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
-import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.Parameter;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -78,9 +77,6 @@ import java.util.regex.Pattern;
  * <p>
  */
 public final class ParameterConverter {
-  private static final String LABEL = "label";
-  private static final String MATRIX = "matrix";
-
   private ParameterConverter() {
   }
 
@@ -96,35 +92,87 @@ public final class ParameterConverter {
                                                  final Pattern pattern,
                                                  final String path) {
 
-    final Map<String, JsonNode> mappedValues = new HashMap<>();
+    return pathToNode(context, ParameterPlan.cached(context, specParameters, ParameterPlan.IN_PATH), pattern, path);
+  }
+
+  /**
+   * Convert path parameters to nodes.
+   *
+   * @param plans The decoding plans of the path parameters.
+   * @param path  The rendered path from the request.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final OAIContext context,
+                                                 final List<ParameterPlan> plans,
+                                                 final Pattern pattern,
+                                                 final String path) {
 
     if (pattern == null) {
-      return mappedValues;
+      return new HashMap<>();
     }
 
     final Matcher matcher = pattern.matcher(path);
     if (!matcher.matches()) {
+      return new HashMap<>();
+    }
+
+    final Map<String, String> pathValues = new HashMap<>();
+    for (ParameterPlan plan : plans) {
+      pathValues.put(plan.getName(), matcher.group(PathResolver.instance().getParamGroupName(plan.getName())));
+    }
+
+    return pathToNode(context, plans, pathValues);
+  }
+
+  /**
+   * Convert path parameters to nodes from already captured values.
+   *
+   * @param specParameters The path parameters from specification.
+   * @param pathValues     The raw values captured from the request path mapped by parameter name.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final OAIContext context,
+                                                 final Map<String, AbsParameter<Parameter>> specParameters,
+                                                 final Map<String, String> pathValues) {
+
+    return pathToNode(context, ParameterPlan.cached(context, specParameters, ParameterPlan.IN_PATH), pathValues);
+  }
+
+  /**
+   * Convert path parameters to nodes from already captured values.
+   *
+   * @param plans      The decoding plans of the path parameters.
+   * @param pathValues The raw values captured from the request path mapped by parameter name.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> pathToNode(final OAIContext context,
+                                                 final List<ParameterPlan> plans,
+                                                 final Map<String, String> pathValues) {
+
+    final Map<String, JsonNode> mappedValues = new HashMap<>();
+
+    if (pathValues == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
-      String paramGroupName = PathResolver.instance().getParamGroupName(paramName);
+    for (ParameterPlan plan : plans) {
+      final String paramName = plan.getName();
+      final String rawValue = pathValues.get(paramName);
       final JsonNode convertedValue;
 
-      if (param.getSchema() != null) {
-        final String style = param.getStyle();
-
-        if (LABEL.equals(style)) {
-          convertedValue = LabelStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        } else if (MATRIX.equals(style)) {
-          convertedValue = MatrixStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        } else { // simple is the default
-          convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, matcher.group(paramGroupName));
-        }
-      } else {
-        convertedValue = getValueFromContentType(context, param.getContentMediaTypes(), matcher.group(paramGroupName));
+      switch (plan.getStyle()) {
+        case LABEL:
+          convertedValue = LabelStyleConverter.instance().convert(context, plan.getDecodingParameter(), paramName, rawValue);
+          break;
+        case MATRIX:
+          convertedValue = MatrixStyleConverter.instance().convert(context, plan.getDecodingParameter(), paramName, rawValue);
+          break;
+        case CONTENT:
+          convertedValue = getValueFromContentType(context, plan, rawValue);
+          break;
+        default:
+          convertedValue = SimpleStyleConverter.instance().convert(context, plan.getDecodingParameter(), paramName, rawValue);
+          break;
       }
 
       mappedValues.put(paramName, convertedValue);
@@ -146,7 +194,23 @@ public final class ParameterConverter {
                                                   final String rawValue,
                                                   final String encoding) {
 
-    return FormUrlConverter.instance().convert(context, specParameters, rawValue, false, encoding);
+    return queryToNode(context, ParameterPlan.cached(context, specParameters, ParameterPlan.IN_QUERY), rawValue, encoding);
+  }
+
+  /**
+   * Convert form data parameters to nodes.
+   * The query string MUST BE in the appropriate form corresponding to the associated style.
+   *
+   * @param plans    The decoding plans of the query parameters.
+   * @param rawValue The raw query string.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> queryToNode(final OAIContext context,
+                                                  final List<ParameterPlan> plans,
+                                                  final String rawValue,
+                                                  final String encoding) {
+
+    return FormUrlConverter.instance().convert(context, plans, rawValue, false, encoding);
   }
 
   /**
@@ -160,33 +224,45 @@ public final class ParameterConverter {
                                                                                  final Map<String, AbsParameter<M>> specParameters,
                                                                                  final Map<String, Collection<String>> headers) {
 
+    return headersToNode(context, ParameterPlan.cached(context, specParameters, ParameterPlan.IN_HEADER), headers);
+  }
+
+  /**
+   * Convert header parameters to nodes.
+   *
+   * @param plans   The decoding plans of the header parameters.
+   * @param headers The headers.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> headersToNode(final OAIContext context,
+                                                    final List<ParameterPlan> plans,
+                                                    final Map<String, Collection<String>> headers) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (headers == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<M>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<M> param = paramEntry.getValue();
-      final JsonNode convertedValue;
+    for (ParameterPlan plan : plans) {
+      final String paramName = plan.getName();
 
       if (!headers.containsKey(paramName)) {
-        convertedValue = null;
+        continue;
+      }
+
+      final Collection<String> headerValues = headers.get(paramName);
+      final JsonNode convertedValue;
+
+      if (headerValues == null) {
+        convertedValue = JsonNodeFactory.instance.nullNode();
+      } else if (plan.getStyle() == ParameterPlan.Style.CONTENT) {
+        convertedValue = getValueFromContentType(
+          context,
+          plan,
+          headerValues.isEmpty() ? null : headerValues.iterator().next());
       } else {
-        Collection<String> headerValues = headers.get(paramName);
-        if (headerValues != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, String.join(",", headerValues));
-          } else {
-            convertedValue = getValueFromContentType(
-              context,
-              param.getContentMediaTypes(),
-              headerValues.stream().findFirst().orElse(null));
-          }
-        } else {
-          convertedValue = JsonNodeFactory.instance.nullNode();
-        }
+        convertedValue = SimpleStyleConverter.instance().convert(context, plan.getDecodingParameter(), paramName, String.join(",", headerValues));
       }
 
       if (convertedValue != null) {
@@ -208,34 +284,42 @@ public final class ParameterConverter {
                                                     final Map<String, AbsParameter<Parameter>> specParameters,
                                                     final Map<String, String> cookies) {
 
+    return cookiesToNode(context, ParameterPlan.cached(context, specParameters, ParameterPlan.IN_COOKIE), cookies);
+  }
+
+  /**
+   * Convert cookie parameters to nodes.
+   *
+   * @param plans   The decoding plans of the cookie parameters.
+   * @param cookies The cookies.
+   * @return A map with parameters names associated with the value as node.
+   */
+  public static Map<String, JsonNode> cookiesToNode(final OAIContext context,
+                                                    final List<ParameterPlan> plans,
+                                                    final Map<String, String> cookies) {
+
     final Map<String, JsonNode> mappedValues = new HashMap<>();
 
     if (cookies == null) {
       return mappedValues;
     }
 
-    for (Map.Entry<String, AbsParameter<Parameter>> paramEntry : specParameters.entrySet()) {
-      final String paramName = paramEntry.getKey();
-      final AbsParameter<Parameter> param = paramEntry.getValue();
-      final JsonNode convertedValue;
+    for (ParameterPlan plan : plans) {
+      final String paramName = plan.getName();
 
-      if (param.getExplode() == null) { // explode true is default
-        param.setExplode(true);
+      if (!cookies.containsKey(paramName)) {
+        continue;
       }
 
-      if (!cookies.containsKey(paramName)) {
-        convertedValue = null;
+      final String value = cookies.get(paramName);
+      final JsonNode convertedValue;
+
+      if (value == null) {
+        convertedValue = JsonNodeFactory.instance.nullNode();
+      } else if (plan.getStyle() == ParameterPlan.Style.CONTENT) {
+        convertedValue = getValueFromContentType(context, plan, value);
       } else {
-        String value = cookies.get(paramName);
-        if (value != null) {
-          if (param.getSchema() != null) {
-            convertedValue = SimpleStyleConverter.instance().convert(context, param, paramName, value);
-          } else {
-            convertedValue = getValueFromContentType(context, param.getContentMediaTypes(), value);
-          }
-        } else {
-          convertedValue = JsonNodeFactory.instance.nullNode();
-        }
+        convertedValue = SimpleStyleConverter.instance().convert(context, plan.getDecodingParameter(), paramName, value);
       }
 
       if (convertedValue != null) {
@@ -246,21 +330,15 @@ public final class ParameterConverter {
     return mappedValues;
   }
 
-  private static JsonNode getValueFromContentType(final OAIContext context,
-                                                  final Map<String, MediaType> mediaTypes,
-                                                  final String value) {
-
-    if (mediaTypes != null && value != null) {
-      Optional<Map.Entry<String, MediaType>> entry = mediaTypes.entrySet().stream().findFirst();
-
-      if (entry.isPresent()) {
-        Map.Entry<String, MediaType> mediaType = entry.get();
+  static JsonNode getValueFromContentType(final OAIContext context,
+                                          final ParameterPlan plan,
+                                          final String value) {
 
-        try {
-          return ContentConverter.convert(context, mediaType.getValue(), mediaType.getKey(), null, value);
-        } catch (IOException e) {
-          return null;
-        }
+    if (plan.getMediaType() != null && value != null) {
+      try {
+        return ContentConverter.convert(context, plan.getMediaType(), plan.getContentType(), null, value);
+      } catch (IOException e) {
+        return null;
       }
     }
 
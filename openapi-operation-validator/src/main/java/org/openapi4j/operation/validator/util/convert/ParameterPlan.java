@@ -0,0 +1,252 @@
+package org.openapi4j.operation.validator.util.convert;
+
+import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.parser.model.OpenApiSchema;
+import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.parser.model.v3.MediaType;
+import org.openapi4j.parser.model.v3.Parameter;
+import org.openapi4j.parser.model.v3.Schema;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decoding plan of a parameter.
+ * <p/>
+ * Style, explode default, flat schema and content media type are resolved once from the specification,
+ * the conversion of the request values only executes the plan.
+ * The parameter from the specification is left untouched.
+ */
+public final class ParameterPlan {
+  public static final String IN_PATH = "path";
+  public static final String IN_QUERY = "query";
+  public static final String IN_HEADER = "header";
+  public static final String IN_COOKIE = "cookie";
+
+  private static final String LABEL = "label";
+  private static final String MATRIX = "matrix";
+  private static final String SPACE_DELIMITED = "spaceDelimited";
+  private static final String PIPE_DELIMITED = "pipeDelimited";
+  private static final String DEEP_OBJECT = "deepObject";
+
+  // Plans of the last parameter maps given to the map based conversions, indexed by identity hash
+  private static final int CACHE_SIZE = 64;
+  private static final AtomicReferenceArray<CachedPlans> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  enum Style {
+    SIMPLE,
+    LABEL,
+    MATRIX,
+    FORM,
+    SPACE_DELIMITED,
+    PIPE_DELIMITED,
+    DEEP_OBJECT,
+    // Parameter described with a media type instead of a schema
+    CONTENT
+  }
+
+  private final String name;
+  private final AbsParameter<?> parameter;
+  private final AbsParameter<?> decodingParameter;
+  private final Schema schema;
+  private final boolean explode;
+  private final Style style;
+  private final String contentType;
+  private final MediaType mediaType;
+
+  private ParameterPlan(final OAIContext context, final String name, final AbsParameter<?> parameter, final String in) {
+    this.name = name;
+    this.parameter = parameter;
+
+    if (parameter.getSchema() != null) {
+      schema = parameter.getSchema().getFlatSchema(context);
+      style = getStyle(parameter.getStyle(), in);
+      contentType = null;
+      mediaType = null;
+
+      if (parameter.getExplode() == null) {
+        explode = style == Style.FORM || IN_COOKIE.equals(in); // explode true is default
+      } else {
+        explode = parameter.getExplode();
+      }
+
+      decodingParameter = new Parameter()
+        .setName(name)
+        .setIn(in)
+        .setStyle(parameter.getStyle())
+        .setExplode(explode)
+        .setAllowReserved(parameter.getAllowReserved())
+        .setRequired(parameter.getRequired())
+        .setSchema(schema);
+    } else {
+      schema = null;
+      explode = parameter.isExplode();
+      decodingParameter = parameter;
+      style = Style.CONTENT;
+      Map<String, MediaType> mediaTypes = parameter.getContentMediaTypes();
+      Map.Entry<String, MediaType> entry
+        = (mediaTypes != null && !mediaTypes.isEmpty())
+        ? mediaTypes.entrySet().iterator().next()
+        : null;
+      contentType = entry != null ? entry.getKey() : null;
+      mediaType = entry != null ? entry.getValue() : null;
+    }
+  }
+
+  /**
+   * Create the plans of the given parameters.
+   *
+   * @param context        The context of the specification.
+   * @param specParameters The parameters from specification mapped by name.
+   * @param in             The location of the parameters (path, query, header or cookie).
+   * @return The plans in the iteration order of the given parameters.
+   */
+  public static <M extends OpenApiSchema<M>> List<ParameterPlan> create(final OAIContext context,
+                                                                       final Map<String, AbsParameter<M>> specParameters,
+                                                                       final String in) {
+
+    if (specParameters == null || specParameters.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<ParameterPlan> plans = new ArrayList<>(specParameters.size());
+    for (Map.Entry<String, AbsParameter<M>> paramEntry : specParameters.entrySet()) {
+      plans.add(new ParameterPlan(context, paramEntry.getKey(), paramEntry.getValue(), in));
+    }
+
+    return Collections.unmodifiableList(plans);
+  }
+
+  /**
+   * Get the plans of the given parameters, created once for a given map.
+   * <p/>
+   * A bounded number of maps is kept, weakly referenced.
+   * The plans are created again when the map is not found or when its parameters have changed.
+   *
+   * @param context        The context of the specification.
+   * @param specParameters The parameters from specification mapped by name.
+   * @param in             The location of the parameters (path, query, header or cookie).
+   * @return The plans in the iteration order of the given parameters.
+   */
+  static <M extends OpenApiSchema<M>> List<ParameterPlan> cached(final OAIContext context,
+                                                                final Map<String, AbsParameter<M>> specParameters,
+                                                                final String in) {
+
+    if (specParameters == null || specParameters.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    int index = System.identityHashCode(specParameters) & (CACHE_SIZE - 1);
+    CachedPlans cached = CACHE.get(index);
+    if (cached != null && cached.matches(context, specParameters, in)) {
+      return cached.plans;
+    }
+
+    List<ParameterPlan> plans = create(context, specParameters, in);
+    CACHE.set(index, new CachedPlans(context, specParameters, in, plans));
+    return plans;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The parameter from the specification, as given.
+   */
+  public AbsParameter<?> getParameter() {
+    return parameter;
+  }
+
+  /**
+   * @return The flattened schema of the parameter, {@code null} when described with a media type.
+   */
+  public Schema getSchema() {
+    return schema;
+  }
+
+  /**
+   * @return The explode value of the parameter with the default of its style applied.
+   */
+  public boolean isExplode() {
+    return explode;
+  }
+
+  /**
+   * @return The parameter given to the style converters, with flattened schema and explode value.
+   */
+  AbsParameter<?> getDecodingParameter() {
+    return decodingParameter;
+  }
+
+  Style getStyle() {
+    return style;
+  }
+
+  String getContentType() {
+    return contentType;
+  }
+
+  MediaType getMediaType() {
+    return mediaType;
+  }
+
+  private static Style getStyle(final String style, final String in) {
+    if (IN_PATH.equals(in)) {
+      if (LABEL.equals(style)) {
+        return Style.LABEL;
+      } else if (MATRIX.equals(style)) {
+        return Style.MATRIX;
+      }
+      return Style.SIMPLE; // simple is the default
+    } else if (IN_QUERY.equals(in)) {
+      if (SPACE_DELIMITED.equals(style)) {
+        return Style.SPACE_DELIMITED;
+      } else if (PIPE_DELIMITED.equals(style)) {
+        return Style.PIPE_DELIMITED;
+      } else if (DEEP_OBJECT.equals(style)) {
+        return Style.DEEP_OBJECT;
+      }
+      return Style.FORM; // form is the default
+    }
+
+    // headers & cookies
+    return Style.SIMPLE;
+  }
+
+  private static final class CachedPlans {
+    private final WeakReference<OAIContext> context;
+    private final WeakReference<Map<String, ?>> specParameters;
+    private final String in;
+    private final List<ParameterPlan> plans;
+
+    private CachedPlans(OAIContext context, Map<String, ?> specParameters, String in, List<ParameterPlan> plans) {
+      this.context = new WeakReference<>(context);
+      this.specParameters = new WeakReference<>(specParameters);
+      this.in = in;
+      this.plans = plans;
+    }
+
+    private boolean matches(OAIContext context, Map<String, ?> specParameters, String in) {
+      if (this.context.get() != context || this.specParameters.get() != specParameters || !this.in.equals(in)) {
+        return false;
+      }
+
+      // The map may have been modified since the plans were created
+      if (plans.size() != specParameters.size()) {
+        return false;
+      }
+      for (ParameterPlan plan : plans) {
+        if (specParameters.get(plan.name) != plan.parameter) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+}
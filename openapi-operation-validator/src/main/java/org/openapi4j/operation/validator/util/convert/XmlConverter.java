@@ -5,35 +5,42 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import org.json.JSONObject;
-import org.json.XML;
-import org.json.XMLParserConfiguration;
 import org.openapi4j.core.model.OAIContext;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.parser.model.v3.Xml;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_ARRAY;
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.TYPE_OBJECT;
 
+/**
+ * XML to tree conversion.
+ * <p/>
+ * The content is read in a single pass with a StAX parser.
+ * Namespaces are ignored (local names only), attributes are converted to children properties.
+ */
 class XmlConverter {
   private static final XmlConverter INSTANCE = new XmlConverter();
 
-  // Pattern to remove all namespace information
-  private static final Pattern nsPattern
-    = Pattern.compile("<(/)*" // begin XML chapter & slash ?
-    + "\\w+:" // namespace prefix
-    + "(\\w+)" // XML chapter
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes before namespace reference
-    + "(?:\\s+\\w+:\\w+=\".+?\")?" // namespace reference
-    + "((?:\\s+\\w+=\".+?\")*)" // XML attributes after namespace reference
-    + "(\\s*/?)>"); // trailing slash ? & end XML chapter
+  // Key of the text content of elements having attributes or children
+  private static final String CONTENT = "content";
+  // Synthetic root element, the content may have multiple root elements (i.e. unwrapped arrays)
+  private static final String ROOT_START = "<root>";
+  private static final String ROOT_END = "</root>";
+  private static final int DECLARATION_MAX_LENGTH = 1024;
 
-  private static final String nsReplace = "<$1$2$3$4$5>";
+  private static final XMLInputFactory XML_FACTORY = createFactory();
 
   private XmlConverter() {
   }
@@ -42,25 +49,21 @@ class XmlConverter {
     return INSTANCE;
   }
 
-  JsonNode convert(OAIContext context, final Schema schema, String body) {
-    return convert(
-      context,
-      schema,
-      XML.toJSONObject(nsPattern.matcher(body).replaceAll(nsReplace), XMLParserConfiguration.KEEP_STRINGS));
+  JsonNode convert(OAIContext context, final Schema schema, String body) throws IOException {
+    return convert(context, schema, new StringReader(body));
   }
 
-  private JsonNode convert(OAIContext context, final Schema schema, final JSONObject xml) {
-    if (xml.isEmpty()) {
-      return JsonNodeFactory.instance.nullNode();
-    }
+  JsonNode convert(OAIContext context, final Schema schema, Reader body) throws IOException {
+    return convert(context, schema, readTree(body));
+  }
 
-    JsonNode content;
-    try {
-      content = TreeUtil.json.readTree(xml.toString());
-    } catch (IOException e) {
+  private JsonNode convert(OAIContext context, final Schema schema, final ObjectNode xml) {
+    if (xml.size() == 0) {
       return JsonNodeFactory.instance.nullNode();
     }
 
+    JsonNode content = xml;
+
     // Specific case of xml2json mapping : Unwrap first key to match JSON content
     Schema flatSchema = schema.getFlatSchema(context);
     if (TYPE_OBJECT.equals(flatSchema.getSupposedType(context))) {
@@ -70,6 +73,115 @@ class XmlConverter {
     return processNode(context, flatSchema, content);
   }
 
+  /**
+   * Read the XML content to a tree.
+   * Elements are keyed by name, repeated elements are grouped in arrays and values are kept as strings.
+   * Elements with only text are direct values, the text is keyed by 'content' otherwise.
+   */
+  private ObjectNode readTree(final Reader body) throws IOException {
+    final Deque<ObjectNode> elements = new ArrayDeque<>();
+    elements.push(JsonNodeFactory.instance.objectNode());
+
+    XMLStreamReader reader = null;
+    try {
+      reader = XML_FACTORY.createXMLStreamReader(new RootReader(skipDeclaration(body)));
+
+      // Synthetic root element
+      reader.nextTag();
+
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            ObjectNode element = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+              accumulate(element, reader.getAttributeLocalName(i), JsonNodeFactory.instance.textNode(reader.getAttributeValue(i)));
+            }
+            elements.push(element);
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+            String text = reader.getText().trim();
+            // Root text is ignored
+            if (text.length() != 0 && elements.size() > 1) {
+              accumulate(elements.peek(), CONTENT, JsonNodeFactory.instance.textNode(text));
+            }
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            if (elements.size() > 1) {
+              ObjectNode closed = elements.pop();
+              accumulate(elements.peek(), reader.getLocalName(), collapse(closed));
+            }
+            break;
+          default:
+            break;
+        }
+      }
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    } finally {
+      close(reader);
+    }
+
+    return elements.getLast();
+  }
+
+  private JsonNode collapse(final ObjectNode element) {
+    if (element.size() == 0) {
+      return JsonNodeFactory.instance.textNode("");
+    } else if (element.size() == 1 && element.has(CONTENT)) {
+      return element.get(CONTENT);
+    }
+
+    return element;
+  }
+
+  private void accumulate(final ObjectNode node, final String key, final JsonNode value) {
+    JsonNode previousValue = node.get(key);
+
+    if (previousValue == null) {
+      node.set(key, value.isArray() ? JsonNodeFactory.instance.arrayNode().add(value) : value);
+    } else if (previousValue.isArray()) {
+      ((ArrayNode) previousValue).add(value);
+    } else {
+      node.set(key, JsonNodeFactory.instance.arrayNode().add(previousValue).add(value));
+    }
+  }
+
+  private Reader skipDeclaration(final Reader body) throws IOException {
+    BufferedReader reader = new BufferedReader(body);
+    reader.mark(DECLARATION_MAX_LENGTH);
+
+    int c = reader.read();
+    // BOM & leading whitespaces
+    while (c == '\uFEFF' || Character.isWhitespace(c)) {
+      c = reader.read();
+    }
+
+    if (c == '<' && reader.read() == '?') {
+      // Skip until '?>'
+      int previous = 0;
+      while ((c = reader.read()) != -1) {
+        if (previous == '?' && c == '>') {
+          return reader;
+        }
+        previous = c;
+      }
+    }
+
+    reader.reset();
+    return reader;
+  }
+
+  private void close(final XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException ignored) {
+        // Nothing to do
+      }
+    }
+  }
+
   private JsonNode processNode(OAIContext context, final Schema schema, final JsonNode node) {
     JsonNode content = unwrap(context, schema, node, null);
     if (content == null) {
@@ -160,4 +272,64 @@ class XmlConverter {
 
     return content;
   }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    // No DTD, no external entities
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Surround the content with the synthetic root element.
+   */
+  private static class RootReader extends Reader {
+    private final Reader body;
+    private int startIndex;
+    private int endIndex;
+    private boolean bodyDone;
+
+    RootReader(Reader body) {
+      this.body = body;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      if (startIndex < ROOT_START.length()) {
+        int count = Math.min(len, ROOT_START.length() - startIndex);
+        ROOT_START.getChars(startIndex, startIndex + count, cbuf, off);
+        startIndex += count;
+        return count;
+      }
+
+      if (!bodyDone) {
+        int count = body.read(cbuf, off, len);
+        if (count != -1) {
+          return count;
+        }
+        bodyDone = true;
+      }
+
+      if (endIndex < ROOT_END.length()) {
+        int count = Math.min(len, ROOT_END.length() - endIndex);
+        ROOT_END.getChars(endIndex, endIndex + count, cbuf, off);
+        endIndex += count;
+        return count;
+      }
+
+      return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+      body.close();
+    }
+  }
 }
@@ -1,35 +1,51 @@
 package org.openapi4j.operation.validator.validation;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.model.v3.OAI3;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.operation.validator.model.impl.Body;
+import org.openapi4j.operation.validator.util.ContentType;
+import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ContentSizeException;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
 import org.openapi4j.parser.model.v3.MediaType;
-import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
+import static org.openapi4j.operation.validator.validation.OperationValidationOptions.MULTIPART_MAX_SIZE;
+import static org.openapi4j.operation.validator.validation.OperationValidationOptions.MULTIPART_PART_MAX_SIZE;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.JSON_STREAMING;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.MULTIPART_STREAMING;
 
 class BodyValidator {
   private static final ValidationResult BODY_CONTENT_ERR = new ValidationResult(ERROR, 201, "An error occurred when getting the body content from type '%s'.%n%s");
+  private static final ValidationResult BODY_PART_SIZE_ERR = new ValidationResult(ERROR, 207, "Body part '%s' exceeds the size limit of %d bytes.");
+  private static final ValidationResult BODY_SIZE_ERR = new ValidationResult(ERROR, 208, "Body exceeds the size limit of %d bytes.");
 
   private static final String BODY = "body";
 
   private final ValidationContext<OAI3> context;
   private final MediaType mediaType;
-  private final JsonValidator validator;
+  private final SchemaValidator validator;
+  // Decoding plans of form url-encoded content, null for other media types
+  private final List<ParameterPlan> formPlans;
 
-  BodyValidator(ValidationContext<OAI3> context, MediaType mediaType) {
+  BodyValidator(ValidationContext<OAI3> context, String contentType, MediaType mediaType) {
     this.context = context;
     this.mediaType = mediaType;
 
     validator = initValidator();
+    formPlans
+      = (validator != null)
+      ? ContentConverter.prepare(context.getContext(), mediaType, contentType)
+      : null;
   }
 
   void validate(final Body body,
@@ -44,21 +60,43 @@ class BodyValidator {
     }
 
     try {
-      JsonNode jsonBody = body.getContentAsNode(context.getContext(), mediaType, rawContentType);
+      if (context.getOption(JSON_STREAMING) && ContentType.isJson(ContentType.getTypeOnly(rawContentType))) {
+        try (JsonParser parser = body.getContentAsJsonParser()) {
+          if (parser != null) {
+            validator.validate(parser, validation);
+            return;
+          }
+        }
+      }
+
+      JsonNode jsonBody;
+      if (context.getOption(MULTIPART_STREAMING) && ContentType.isMultipartFormData(ContentType.getTypeOnly(rawContentType))) {
+        jsonBody = body.getMultipartContentAsNode(
+          context.getContext(),
+          mediaType,
+          rawContentType,
+          context.getLimit(MULTIPART_PART_MAX_SIZE),
+          context.getLimit(MULTIPART_MAX_SIZE));
+      } else {
+        jsonBody = body.getContentAsNode(context.getContext(), mediaType, formPlans, rawContentType);
+      }
       validator.validate(jsonBody, validation);
+    } catch (ContentSizeException ex) {
+      if (ex.getPartName() != null) {
+        validation.add(BODY_PART_SIZE_ERR, ex.getPartName(), ex.getLimit());
+      } else {
+        validation.add(BODY_SIZE_ERR, ex.getLimit());
+      }
     } catch (IOException ex) {
       validation.add(BODY_CONTENT_ERR, rawContentType, ex);
     }
   }
 
-  private JsonValidator initValidator() {
+  private SchemaValidator initValidator() {
     if (mediaType == null || mediaType.getSchema() == null) {
       return null;
     }
 
-    return new SchemaValidator(
-      context,
-      BODY,
-      TreeUtil.json.convertValue(mediaType.getSchema().copy(), JsonNode.class));
+    return SharedValidators.getSchemaValidator(context, BODY, mediaType.getSchema());
   }
 }
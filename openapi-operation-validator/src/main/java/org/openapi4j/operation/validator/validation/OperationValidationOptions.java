@@ -0,0 +1,24 @@
+package org.openapi4j.operation.validator.validation;
+
+/**
+ * Limits of the operation validator, to be set with {@code ValidationContext.setLimit}.
+ * <p/>
+ * Keys don't overlap the schema validator options.
+ */
+public final class OperationValidationOptions {
+  private OperationValidationOptions() {}
+
+  /**
+   * Limit of the size in bytes of each multipart part when {@code ValidationOptions.MULTIPART_STREAMING} is enabled.
+   * <p/>
+   * Unlimited by default.
+   */
+  public static final byte MULTIPART_PART_MAX_SIZE = 64;
+
+  /**
+   * Limit of the size in bytes of the whole multipart body when {@code ValidationOptions.MULTIPART_STREAMING} is enabled.
+   * <p/>
+   * Unlimited by default.
+   */
+  public static final byte MULTIPART_MAX_SIZE = 65;
+}
@@ -10,6 +10,7 @@ import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.MediaTypeContainer;
 import org.openapi4j.operation.validator.util.PathResolver;
 import org.openapi4j.operation.validator.util.convert.ParameterConverter;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
 import org.openapi4j.parser.model.AbsRefOpenApiSchema;
 import org.openapi4j.parser.model.v3.*;
 import org.openapi4j.schema.validator.ValidationContext;
@@ -38,12 +39,8 @@ public class OperationValidator {
   private static final ValidationResult PATH_NOT_FOUND_ERR = new ValidationResult(ERROR, 205, "Path template '%s' has not been found from value '%s'.");
 
   // Parameter specifics
-  private static final String IN_PATH = "path";
-  private static final String IN_QUERY = "query";
-  private static final String IN_HEADER = "header";
-  private static final String IN_COOKIE = "cookie";
   private static final String DEFAULT_RESPONSE_CODE = "default";
-  private static final ValidationResults.CrumbInfo CRUMB_PATH = new ValidationResults.CrumbInfo(IN_PATH, true);
+  private static final ValidationResults.CrumbInfo CRUMB_PATH = new ValidationResults.CrumbInfo(ParameterPlan.IN_PATH, true);
   // Validators
   private final ParameterValidator<Parameter> specRequestPathValidator;
   private final ParameterValidator<Parameter> specRequestQueryValidator;
@@ -68,7 +65,7 @@ public class OperationValidator {
    * @param operation The Operation to validate.
    */
   public OperationValidator(final OpenApi3 openApi, final Path path, final Operation operation) {
-    this(new ValidationContext<>(openApi.getContext()), openApi, path, operation);
+    this(SharedValidators.getDefaultContext(openApi), openApi, path, operation);
   }
 
   /**
@@ -114,18 +111,18 @@ public class OperationValidator {
     mergePathToOperationParameters(path);
 
     // Request path parameters
-    specRequestPathValidator = createParameterValidator(IN_PATH);
+    specRequestPathValidator = createParameterValidator(ParameterPlan.IN_PATH);
     this.pathPatterns
       = pathPatterns == null
       ? PathResolver.instance().buildPathPatterns(openApi.getContext(), openApi.getServers(), templatePath)
       : pathPatterns;
 
     // Request query parameters
-    specRequestQueryValidator = createParameterValidator(IN_QUERY);
+    specRequestQueryValidator = createParameterValidator(ParameterPlan.IN_QUERY);
     // Request header parameters
-    specRequestHeaderValidator = createParameterValidator(IN_HEADER);
+    specRequestHeaderValidator = createParameterValidator(ParameterPlan.IN_HEADER);
     // Request cookie parameters
-    specRequestCookieValidator = createParameterValidator(IN_COOKIE);
+    specRequestCookieValidator = createParameterValidator(ParameterPlan.IN_COOKIE);
     // Request body
     specRequestBodyValidators = createRequestBodyValidators();
     // Response headers
@@ -168,7 +165,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.pathToNode(
       context.getContext(),
-      specRequestPathValidator.getParameters(),
+      specRequestPathValidator.getPlans(),
       pathPattern,
       request.getPath());
 
@@ -177,6 +174,26 @@ public class OperationValidator {
     return mappedValues;
   }
 
+  /**
+   * Validate path parameters from the values already captured by the path lookup.
+   *
+   * @param pathValues The raw path parameter values mapped by parameter name.
+   * @param validation The validation data delegate and results.
+   * @return The mapped parameters with their values.
+   */
+  Map<String, JsonNode> validatePath(final Map<String, String> pathValues, final ValidationData<?> validation) {
+    if (specRequestPathValidator == null) return null;
+
+    Map<String, JsonNode> mappedValues = ParameterConverter.pathToNode(
+      context.getContext(),
+      specRequestPathValidator.getPlans(),
+      pathValues);
+
+    specRequestPathValidator.validate(mappedValues, validation);
+
+    return mappedValues;
+  }
+
   /**
    * Validate query parameters from the given request.
    *
@@ -189,7 +206,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.queryToNode(
       context.getContext(),
-      specRequestQueryValidator.getParameters(),
+      specRequestQueryValidator.getPlans(),
       request.getQuery(),
       "UTF-8");
 
@@ -210,7 +227,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
       context.getContext(),
-      specRequestHeaderValidator.getParameters(),
+      specRequestHeaderValidator.getPlans(),
       request.getHeaders());
 
     specRequestHeaderValidator.validate(mappedValues, validation);
@@ -230,7 +247,7 @@ public class OperationValidator {
 
     final Map<String, JsonNode> mappedValues = ParameterConverter.cookiesToNode(
       context.getContext(),
-      specRequestCookieValidator.getParameters(),
+      specRequestCookieValidator.getPlans(),
       request.getCookies());
 
     specRequestCookieValidator.validate(mappedValues, validation);
@@ -336,7 +353,7 @@ public class OperationValidator {
 
     Map<String, JsonNode> mappedValues = ParameterConverter.headersToNode(
       context.getContext(),
-      validator.getParameters(),
+      validator.getPlans(),
       response.getHeaders());
 
     validator.validate(mappedValues, validation);
@@ -351,7 +368,7 @@ public class OperationValidator {
 
     return
       parameters.size() != 0
-        ? new ParameterValidator<>(context, parameters)
+        ? new ParameterValidator<>(context, parameters, in)
         : null;
   }
 
@@ -386,10 +403,10 @@ public class OperationValidator {
     final Map<MediaTypeContainer, BodyValidator> validators = new HashMap<>();
 
     if (mediaTypes == null) {
-      validators.put(MediaTypeContainer.create(null), new BodyValidator(context, null));
+      validators.put(MediaTypeContainer.create(null), new BodyValidator(context, null, null));
     } else {
       for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
-        validators.put(MediaTypeContainer.create(entry.getKey()), new BodyValidator(context, entry.getValue()));
+        validators.put(MediaTypeContainer.create(entry.getKey()), new BodyValidator(context, entry.getKey(), entry.getValue()));
       }
     }
 
@@ -409,7 +426,7 @@ public class OperationValidator {
         if (response.getHeaders() != null) {
           Map<String, AbsParameter<Header>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
           headers.putAll(response.getHeaders());
-          validators.put(statusCode, new ParameterValidator<>(context, headers));
+          validators.put(statusCode, new ParameterValidator<>(context, headers, ParameterPlan.IN_HEADER));
         }
       }
     }
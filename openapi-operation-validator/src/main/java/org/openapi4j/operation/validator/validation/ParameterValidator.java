@@ -2,8 +2,8 @@ package org.openapi4j.operation.validator.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.openapi4j.core.model.v3.OAI3;
-import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
 import org.openapi4j.parser.model.OpenApiSchema;
 import org.openapi4j.parser.model.v3.AbsParameter;
 import org.openapi4j.parser.model.v3.MediaType;
@@ -11,9 +11,9 @@ import org.openapi4j.parser.model.v3.Schema;
 import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
-import org.openapi4j.schema.validator.v3.SchemaValidator;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -24,15 +24,17 @@ class ParameterValidator<M extends OpenApiSchema<M>> {
   private final ValidationContext<OAI3> context;
   private final Map<String, JsonValidator> specValidators;
   private final Map<String, AbsParameter<M>> specParameters;
+  private final List<ParameterPlan> plans;
 
-  ParameterValidator(ValidationContext<OAI3> context, Map<String, AbsParameter<M>> specParameters) {
+  ParameterValidator(ValidationContext<OAI3> context, Map<String, AbsParameter<M>> specParameters, String in) {
     this.context = context;
     this.specParameters = specParameters;
     specValidators = initValidators(specParameters);
+    plans = ParameterPlan.create(context.getContext(), specParameters, in);
   }
 
-  Map<String, AbsParameter<M>> getParameters() {
-    return specParameters;
+  List<ParameterPlan> getPlans() {
+    return plans;
   }
 
   void validate(final Map<String, JsonNode> values,
@@ -73,12 +75,7 @@ class ParameterValidator<M extends OpenApiSchema<M>> {
       }
 
       if (paramSchema != null) {
-        SchemaValidator validator = new SchemaValidator(
-          context,
-          paramName,
-          TreeUtil.json.convertValue(paramSchema.copy(), JsonNode.class));
-
-        validators.put(paramName, validator);
+        validators.put(paramName, SharedValidators.getSchemaValidator(context, paramName, paramSchema));
       }
     }
 
@@ -7,6 +7,7 @@ import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
 import org.openapi4j.operation.validator.model.impl.RequestParameters;
 import org.openapi4j.operation.validator.util.PathResolver;
+import org.openapi4j.operation.validator.util.PathRouter;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
@@ -14,13 +15,20 @@ import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_VALIDATION;
 
 /**
  * Validate a request data against a given OpenAPI Operation defined in the Spec.
@@ -35,6 +43,7 @@ public class RequestValidator {
   private static final String OPERATION_REQUIRED_ERR_MSG = "Operation is required.";
   private static final String REQUEST_REQUIRED_ERR_MSG = "Request is required.";
   private static final String RESPONSE_REQUIRED_ERR_MSG = "Response is required.";
+  private static final String EXECUTOR_REQUIRED_ERR_MSG = "Executor is required.";
   private static final String INVALID_REQUEST_ERR_MSG = "Invalid request.";
   private static final String INVALID_RESPONSE_ERR_MSG = "Invalid response.";
   private static final String INVALID_OP_ERR_MSG = "Operation not found from URL '%s' with method '%s'.";
@@ -43,19 +52,23 @@ public class RequestValidator {
   private final OpenApi3 openApi;
   private final ValidationContext<OAI3> context;
   private final Map<Operation, OperationValidator> operationValidators;
-  private final Map<Pattern, Path> pathPatterns;
+  private final Map<Path, List<Pattern>> pathPatterns;
+  private final PathRouter<Path> pathRouter;
 
   /**
    * Construct a new request validator with the given open API.
+   * Schema validators are shared with the other validators built from the same open API
+   * with the default context.
    *
    * @param openApi The loaded open API model
    */
   public RequestValidator(final OpenApi3 openApi) {
-    this(new ValidationContext<>(openApi.getContext()), openApi);
+    this(SharedValidators.getDefaultContext(openApi), openApi);
   }
 
   /**
    * Construct a new request validator with the given open API.
+   * Schema validators are shared with the other validators built from the same context.
    *
    * @param context The validation context to attach options and keyword overrides.
    * @param openApi The loaded open API model
@@ -68,7 +81,8 @@ public class RequestValidator {
     this.openApi = openApi;
     this.context = context;
     this.operationValidators = new ConcurrentHashMap<>();
-    this.pathPatterns = buildPathPatterns();
+    this.pathPatterns = new HashMap<>();
+    this.pathRouter = buildPathRouter(pathPatterns);
   }
 
   /**
@@ -86,11 +100,10 @@ public class RequestValidator {
   public OperationValidator getValidator(final Request request) throws ValidationException {
     requireNonNull(request, REQUEST_REQUIRED_ERR_MSG);
 
-    final Pattern pathPattern = getRequiredPathPattern(request);
-    final Path path = getRequiredPath(request, pathPattern);
-    final Operation operation = getRequiredOperation(request, path);
+    final PathRouter.Match<Path> pathMatch = getRequiredPathMatch(request);
+    final Operation operation = getRequiredOperation(request, pathMatch.getValue());
 
-    return getValidator(path, operation);
+    return getValidator(pathMatch.getValue(), operation);
   }
 
   /**
@@ -104,18 +117,68 @@ public class RequestValidator {
     requireNonNull(path, PATH_REQUIRED_ERR_MSG);
     requireNonNull(operation, OPERATION_REQUIRED_ERR_MSG);
 
-    return operationValidators.computeIfAbsent(
-      operation,
-      op -> {
-        // extract resolved path patterns for the given path
-        List<Pattern> patterns = new ArrayList<>();
-        for (Map.Entry<Pattern, Path> patternPathEntry : pathPatterns.entrySet()) {
-          if (patternPathEntry.getValue().equals(path)) {
-            patterns.add(patternPathEntry.getKey());
-          }
-        }
-        return new OperationValidator(context, patterns, openApi, path, op);
-      });
+    OperationValidator validator = operationValidators.get(operation);
+    if (validator != null) {
+      return validator;
+    }
+
+    // Compiled outside of the map lock, so operations are compiled concurrently
+    validator = new OperationValidator(
+      context,
+      pathPatterns.getOrDefault(path, Collections.emptyList()),
+      openApi,
+      path,
+      operation);
+
+    OperationValidator cached = operationValidators.putIfAbsent(operation, validator);
+    return (cached != null) ? cached : validator;
+  }
+
+  /**
+   * Compile the validators of all the operations ahead of the first requests.
+   * <p/>
+   * Operations are compiled concurrently with the given executor,
+   * this method blocks until all the validators are available.
+   * No lock is held while compiling, schemas already compiled by another operation are re-used.
+   *
+   * @param executor The executor to run the compilations.
+   * @return The compilation time in nanoseconds by operation, keyed by method and path template (i.e. "GET /pets/{id}").
+   * Time spent waiting for the executor is not included.
+   */
+  public Map<String, Long> warmUp(final Executor executor) {
+    requireNonNull(executor, EXECUTOR_REQUIRED_ERR_MSG);
+
+    final Map<String, Long> durations = new ConcurrentHashMap<>();
+    final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+    for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
+      final Path path = pathEntry.getValue();
+      if (path.getOperations() == null) {
+        continue;
+      }
+
+      for (Map.Entry<String, Operation> operationEntry : path.getOperations().entrySet()) {
+        final String name = operationEntry.getKey().toUpperCase() + " " + pathEntry.getKey();
+        final Operation operation = operationEntry.getValue();
+
+        tasks.add(CompletableFuture.runAsync(() -> {
+          long start = System.nanoTime();
+          getValidator(path, operation);
+          durations.put(name, System.nanoTime() - start);
+        }, executor));
+      }
+    }
+
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+
+    return new TreeMap<>(durations);
   }
 
   /**
@@ -167,11 +230,10 @@ public class RequestValidator {
    */
   public RequestParameters validate(final Request request,
                                     final ValidationData<?> validation) throws ValidationException {
-    final Pattern pathPattern = getRequiredPathPattern(request);
-    final Path path = getRequiredPath(request, pathPattern);
-    final Operation operation = getRequiredOperation(request, path);
+    final PathRouter.Match<Path> pathMatch = getRequiredPathMatch(request);
+    final Operation operation = getRequiredOperation(request, pathMatch.getValue());
 
-    return validate(request, pathPattern, path, operation, validation);
+    return validate(request, pathMatch, pathMatch.getValue(), operation, validation);
   }
 
   /**
@@ -242,15 +304,15 @@ public class RequestValidator {
   /**
    * Validate the request against the given API operation
    *
-   * @param request     The request to validate. Must be {@code nonnull}.
-   * @param pathPattern The path pattern for the current path operation.
-   * @param path        The OAS path. Must be {@code nonnull}.
-   * @param operation   OpenAPI operation. Must be {@code nonnull}.
-   * @param validation  The validation results with your own data/delegates. Must be non {@code null}.
+   * @param request    The request to validate. Must be {@code nonnull}.
+   * @param pathMatch  The path lookup result for the current path operation.
+   * @param path       The OAS path. Must be {@code nonnull}.
+   * @param operation  OpenAPI operation. Must be {@code nonnull}.
+   * @param validation The validation results with your own data/delegates. Must be non {@code null}.
    * @throws ValidationException A validation report containing validation errors
    */
   private RequestParameters validate(final Request request,
-                                     final Pattern pathPattern,
+                                     final PathRouter.Match<Path> pathMatch,
                                      final Path path,
                                      final Operation operation,
                                      final ValidationData<?> validation) throws ValidationException {
@@ -259,15 +321,43 @@ public class RequestValidator {
 
     final OperationValidator opValidator = getValidator(path, operation);
 
-    final Map<String, JsonNode> pathParameters
-      = (pathPattern != null)
-      ? opValidator.validatePath(request, pathPattern, validation)
-      : opValidator.validatePath(request, validation);
+    // Validate the body concurrently with parameters
+    final ForkJoinTask<ValidationData<?>> bodyTask
+      = (context.getOption(PARALLEL_VALIDATION) && request.getBody() != null)
+      ? context.getForkJoinPool().submit(() -> {
+          ValidationData<?> bodyValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
+          opValidator.validateBody(request, bodyValidation);
+          return bodyValidation;
+        })
+      : null;
+
+    final Map<String, JsonNode> pathParameters;
+    final Map<String, JsonNode> queryParameters;
+    final Map<String, JsonNode> headerParameters;
+    final Map<String, JsonNode> cookieParameters;
+    boolean completed = false;
+    try {
+      pathParameters
+        = (pathMatch != null)
+        ? opValidator.validatePath(pathMatch.getParameters(), validation)
+        : opValidator.validatePath(request, validation);
+
+      queryParameters = opValidator.validateQuery(request, validation);
+      headerParameters = opValidator.validateHeaders(request, validation);
+      cookieParameters = opValidator.validateCookies(request, validation);
+      completed = true;
+    } finally {
+      // Don't leave the body validation running when parameter validation failed unexpectedly
+      if (!completed && bodyTask != null) {
+        bodyTask.cancel(true);
+      }
+    }
 
-    final Map<String, JsonNode> queryParameters = opValidator.validateQuery(request, validation);
-    final Map<String, JsonNode> headerParameters = opValidator.validateHeaders(request, validation);
-    final Map<String, JsonNode> cookieParameters = opValidator.validateCookies(request, validation);
-    opValidator.validateBody(request, validation);
+    if (bodyTask != null) {
+      validation.add(bodyTask.join().results());
+    } else {
+      opValidator.validateBody(request, validation);
+    }
 
     if (!validation.isValid()) {
       throw new ValidationException(INVALID_REQUEST_ERR_MSG, validation.results());
@@ -290,20 +380,12 @@ public class RequestValidator {
     return operation;
   }
 
-  private Pattern getRequiredPathPattern(final Request request) throws ValidationException {
-    final Pattern pathPattern = PathResolver.instance().findPathPattern(pathPatterns.keySet(), request.getPath());
-    if (pathPattern == null) {
-      throw new ValidationException(String.format(INVALID_OP_PATH_ERR_MSG, request.getURL()));
-    }
-    return pathPattern;
-  }
-
-  private Path getRequiredPath(Request request, Pattern pathPattern) throws ValidationException {
-    final Path path = pathPatterns.get(pathPattern);
-    if (path == null) {
+  private PathRouter.Match<Path> getRequiredPathMatch(final Request request) throws ValidationException {
+    final PathRouter.Match<Path> pathMatch = pathRouter.find(request.getPath());
+    if (pathMatch == null) {
       throw new ValidationException(String.format(INVALID_OP_PATH_ERR_MSG, request.getURL()));
     }
-    return path;
+    return pathMatch;
   }
 
   private void validateResponse(final Response response,
@@ -315,20 +397,25 @@ public class RequestValidator {
     }
   }
 
-  private Map<Pattern, Path> buildPathPatterns() {
-    Map<Pattern, Path> patterns = new HashMap<>();
+  private PathRouter<Path> buildPathRouter(Map<Path, List<Pattern>> patterns) {
+    PathRouter<Path> router = new PathRouter<>();
 
     for (Map.Entry<String, Path> pathEntry : openApi.getPaths().entrySet()) {
-      List<Pattern> builtPathPatterns = PathResolver.instance().buildPathPatterns(
+      List<String> paths = PathResolver.instance().buildPaths(
         openApi.getContext(),
         openApi.getServers(),
         pathEntry.getKey());
 
-      for (Pattern pathPattern : builtPathPatterns) {
-        patterns.put(pathPattern, pathEntry.getValue());
+      for (String path : paths) {
+        router.add(path, pathEntry.getValue());
       }
+
+      // Resolved path patterns given to the operation validators of this path
+      patterns.put(
+        pathEntry.getValue(),
+        PathResolver.instance().buildPathPatterns(openApi.getContext(), openApi.getServers(), pathEntry.getKey()));
     }
 
-    return patterns;
+    return router;
   }
 }
@@ -0,0 +1,87 @@
+package org.openapi4j.operation.validator.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Schema;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Schema validators shared across operations and request validators.
+ * <p/>
+ * Validators are cached in the validation context by property name and schema content.
+ * Referenced schemas are flattened by operations, so the same component content
+ * is compiled once whatever the number of operations using it.
+ * Different schemas are compiled concurrently, no lock is held while compiling.
+ */
+final class SharedValidators {
+  // Default contexts, kept while a validator holds them
+  private static final Map<OAIContext, WeakReference<ValidationContext<OAI3>>> DEFAULT_CONTEXTS = new WeakHashMap<>();
+
+  private SharedValidators() {}
+
+  /**
+   * Get the default validation context of the given Open API.
+   * The same context is returned while in use, so validators built from it are shared.
+   */
+  static ValidationContext<OAI3> getDefaultContext(final OpenApi3 openApi) {
+    synchronized (DEFAULT_CONTEXTS) {
+      WeakReference<ValidationContext<OAI3>> ref = DEFAULT_CONTEXTS.get(openApi.getContext());
+      ValidationContext<OAI3> context = (ref != null) ? ref.get() : null;
+
+      if (context == null) {
+        context = new ValidationContext<>(openApi.getContext());
+        DEFAULT_CONTEXTS.put(openApi.getContext(), new WeakReference<>(context));
+      }
+
+      return context;
+    }
+  }
+
+  /**
+   * Get the validator of the given schema from the context cache or create it.
+   */
+  static SchemaValidator getSchemaValidator(final ValidationContext<OAI3> context,
+                                            final String propertyName,
+                                            final Schema schema) {
+
+    final JsonNode schemaNode = TreeUtil.json.convertValue(schema, JsonNode.class);
+
+    return (SchemaValidator) context.getSharedValidator(
+      new SchemaKey(propertyName, schemaNode),
+      () -> new SchemaValidator(context, propertyName, schemaNode));
+  }
+
+  private static final class SchemaKey {
+    private final String propertyName;
+    private final JsonNode schemaNode;
+    private final int hash;
+
+    SchemaKey(String propertyName, JsonNode schemaNode) {
+      this.propertyName = propertyName;
+      this.schemaNode = schemaNode;
+      hash = 31 * propertyName.hashCode() + schemaNode.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof SchemaKey)) return false;
+
+      SchemaKey that = (SchemaKey) o;
+      return hash == that.hash && propertyName.equals(that.propertyName) && schemaNode.equals(that.schemaNode);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
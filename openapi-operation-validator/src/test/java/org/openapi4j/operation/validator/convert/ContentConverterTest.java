@@ -9,18 +9,26 @@ import org.openapi4j.core.util.TreeUtil;
 import org.openapi4j.operation.validator.OpenApi3Util;
 import org.openapi4j.operation.validator.util.ContentType;
 import org.openapi4j.operation.validator.util.convert.ContentConverter;
+import org.openapi4j.operation.validator.util.convert.ContentSizeException;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
 import org.openapi4j.parser.model.v3.EncodingProperty;
 import org.openapi4j.parser.model.v3.MediaType;
 import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.schema.validator.StreamedBinaryNode;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
 public class ContentConverterTest {
+  private static final String UPLOAD_CONTENT_TYPE = "multipart/form-data;boundary=\"1234\"";
+
   private static OpenApi3 api;
 
   @BeforeClass
@@ -48,6 +56,66 @@ public class ContentConverterTest {
     check("/operation/contentType/xml.json");
   }
 
+  @Test
+  public void testMultipartStreaming() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("UploadModel"));
+
+    JsonNode actual = ContentConverter.multipartToNode(
+      api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, new ByteArrayInputStream(upload("0123456789").getBytes()), null, -1, -1);
+    JSONAssert.assertEquals("{\"file\":\"foo.bin\",\"raw\":\"\",\"fieldInt\":1}", actual.toString(), true);
+
+    // With string
+    actual = ContentConverter.multipartToNode(api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, null, upload("0123456789"), -1, -1);
+    JSONAssert.assertEquals("{\"file\":\"foo.bin\",\"raw\":\"\",\"fieldInt\":1}", actual.toString(), true);
+  }
+
+  @Test
+  public void testMultipartStreamingSize() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("UploadModel"));
+
+    // Size is kept for length keywords, maxLength is checked by the schema validation
+    JsonNode actual = ContentConverter.multipartToNode(api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, null, upload("0123456789abcdefg"), -1, -1);
+    assertTrue(actual.get("file") instanceof StreamedBinaryNode);
+    assertEquals(17, ((StreamedBinaryNode) actual.get("file")).byteCount());
+    assertEquals(3, ((StreamedBinaryNode) actual.get("raw")).byteCount());
+  }
+
+  @Test
+  public void testMultipartStreamingPartLimit() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("UploadModel"));
+
+    try {
+      ContentConverter.multipartToNode(api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, null, upload("0123456789"), 8, -1);
+      fail("Part size limit not applied");
+    } catch (ContentSizeException ex) {
+      assertEquals("file", ex.getPartName());
+      assertEquals(8, ex.getLimit());
+    }
+  }
+
+  @Test
+  public void testMultipartStreamingLimit() throws Exception {
+    MediaType mediaType = new MediaType().setSchema(api.getComponents().getSchemas().get("UploadModel"));
+    String content = upload("0123456789");
+
+    ContentConverter.multipartToNode(api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, null, content, 16, content.length());
+    try {
+      ContentConverter.multipartToNode(api.getContext(), mediaType, UPLOAD_CONTENT_TYPE, null, content, 16, content.length() - 1);
+      fail("Total size limit not applied");
+    } catch (ContentSizeException ex) {
+      assertNull(ex.getPartName());
+      assertEquals(content.length() - 1, ex.getLimit());
+    }
+  }
+
+  private static String upload(String fileContent) {
+    return "--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"foo.bin\"\r\nContent-Type: application/octet-stream\r\n\r\n"
+      + fileContent
+      + "\r\n--1234\r\nContent-Disposition: form-data; name=\"raw\"\r\n\r\n\u0001\u0002\u0003"
+      + "\r\n--1234\r\nContent-Disposition: form-data; name=\"fieldInt\"\r\n\r\n1"
+      + "\r\n--1234--\r\n";
+  }
+
   @Test
   public void testDirect() {
     assertEquals(StandardCharsets.UTF_8.name(), ContentType.getCharSet(null));
@@ -57,6 +125,46 @@ public class ContentConverterTest {
     assertNull(ContentType.getCharSetOrNull("application/x-www-form-urlencoded; charset=foo"));
   }
 
+  @Test
+  public void testFormUrlEncodedConcurrency() throws Exception {
+    final int threads = 8;
+    final int iterations = 500;
+    final String input = "fieldInt=1&fieldString=value%202&fieldBool=true&fieldFloat=1.2&fieldArray=1&fieldArray=2";
+    final String expected = "{\"fieldInt\":1,\"fieldString\":\"value 2\",\"fieldBool\":true,\"fieldFloat\":1.2,\"fieldArray\":[1,2]}";
+    final String contentType = "application/x-www-form-urlencoded";
+
+    final MediaType sharedMediaType = new MediaType()
+      .setSchema(api.getComponents().getSchemas().get("FooModel"));
+    final List<ParameterPlan> sharedPlans = ContentConverter.prepare(api.getContext(), sharedMediaType, contentType);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    try {
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < iterations; i++) {
+            // Alternate shared prepared plans & media types built on the fly
+            JsonNode actual = (i % 2 == 0)
+              ? ContentConverter.convert(api.getContext(), sharedMediaType, sharedPlans, contentType, null, input)
+              : ContentConverter.convert(api.getContext(), new MediaType().setSchema(api.getComponents().getSchemas().get("FooModel")), contentType, null, input);
+            JSONAssert.assertEquals(expected, actual.toString(), true);
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void check(String testPath) throws Exception {
     ArrayNode testCases = (ArrayNode) TreeUtil.json.readTree(ContentConverterTest.class.getResource(testPath));
 
@@ -0,0 +1,70 @@
+package org.openapi4j.operation.validator.convert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.Test;
+import org.openapi4j.operation.validator.OpenApi3Util;
+import org.openapi4j.operation.validator.util.convert.ParameterConverter;
+import org.openapi4j.operation.validator.util.convert.ParameterPlan;
+import org.openapi4j.parser.model.v3.AbsParameter;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.parser.model.v3.Parameter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParameterPlanTest {
+  @Test
+  public void planIsResolvedOnce() throws Exception {
+    OpenApi3 api = OpenApi3Util.loadApi("/operation/parameter/queryParameters.yaml");
+
+    Map<String, AbsParameter<Parameter>> parameters = new HashMap<>();
+    for (String name : new String[]{"formExplodedArray", "formNotExplodedArray", "pipeNotExplodedArray", "deepExplodedObject", "content"}) {
+      parameters.put(name, api.getComponents().getParameters().get(name).copy());
+    }
+
+    List<ParameterPlan> plans = ParameterPlan.create(api.getContext(), parameters, ParameterPlan.IN_QUERY);
+    assertEquals(parameters.size(), plans.size());
+
+    for (ParameterPlan plan : plans) {
+      AbsParameter<?> parameter = plan.getParameter();
+      // The parameter from the specification is left untouched
+      assertSame(parameters.get(plan.getName()), parameter);
+      if (parameter.getSchema() != null) {
+        // Schema is flattened and form explode default is applied
+        assertFalse(plan.getSchema().isRef());
+      }
+      if ("formExplodedArray".equals(plan.getName())) {
+        assertTrue(plan.isExplode());
+        assertNull(parameter.getExplode());
+        assertTrue(parameter.getSchema().isRef());
+      }
+    }
+
+    String query = "formExplodedArray=1&formExplodedArray=2&formNotExplodedArray=3,4&pipeNotExplodedArray=5|6"
+      + "&deepExplodedObject[stringProp]=admin&content=%7B%22stringProp%22%3A%22foo%22%7D";
+
+    // Same result on each execution of the plan and with the parameters map
+    Map<String, JsonNode> expected = ParameterConverter.queryToNode(api.getContext(), parameters, query, "UTF-8");
+    assertEquals(expected, ParameterConverter.queryToNode(api.getContext(), plans, query, "UTF-8"));
+    assertEquals(expected, ParameterConverter.queryToNode(api.getContext(), plans, query, "UTF-8"));
+
+    assertEquals(2, expected.get("formExplodedArray").size());
+    assertEquals(2, expected.get("formNotExplodedArray").size());
+    assertEquals(2, expected.get("pipeNotExplodedArray").size());
+    assertEquals("admin", expected.get("deepExplodedObject").get("stringProp").textValue());
+    assertEquals("foo", expected.get("content").get("stringProp").textValue());
+
+    // Conversions with the parameters map leave the parameters untouched
+    assertNull(parameters.get("formExplodedArray").getExplode());
+    assertTrue(parameters.get("formExplodedArray").getSchema().isRef());
+    assertEquals(expected, ParameterConverter.queryToNode(api.getContext(), parameters, query, "UTF-8"));
+  }
+}
@@ -1,5 +1,6 @@
 package org.openapi4j.operation.validator.model.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.junit.Test;
@@ -9,6 +10,8 @@ import org.openapi4j.parser.model.v3.Schema;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +71,29 @@ public class BodyTest {
     checkBody(body, TreeUtil.json.readTree(new ByteArrayInputStream(values.getBytes())));
   }
 
+  @Test
+  public void fromByteBuffer() throws Exception {
+    String values = "{\"key\":\"value\"}";
+    byte[] bytes = ("padding" + values).getBytes(StandardCharsets.UTF_8);
+
+    // Heap buffer with offset
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 7, bytes.length - 7).slice();
+    Body body = Body.from(buffer);
+    checkBody(body, TreeUtil.json.readTree(values));
+    // Content can be read again
+    checkBody(body, TreeUtil.json.readTree(values));
+
+    // Direct buffer
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes).flip().position(7);
+    checkBody(Body.from(directBuffer), TreeUtil.json.readTree(values));
+    assertEquals(7, directBuffer.position());
+
+    try (JsonParser parser = Body.from(buffer).getContentAsJsonParser()) {
+      assertEquals(TreeUtil.json.readTree(values), TreeUtil.json.readTree(parser));
+    }
+  }
+
   private void checkBody(Body body, JsonNode values) throws IOException {
     Schema schema = new Schema();
     schema.setProperty("key", new Schema().setType("string"));
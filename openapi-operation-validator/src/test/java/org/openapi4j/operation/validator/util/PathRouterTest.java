@@ -0,0 +1,65 @@
+package org.openapi4j.operation.validator.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PathRouterTest {
+  @Test
+  public void literalPreferredOverTemplate() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/users/{id}", "byId");
+    router.add("/users/me", "me");
+
+    assertEquals("me", router.find("/users/me").getValue());
+
+    PathRouter.Match<String> match = router.find("/users/5");
+    assertEquals("byId", match.getValue());
+    assertEquals("/users/{id}", match.getTemplatePath());
+    assertEquals("5", match.getParameters().get("id"));
+  }
+
+  @Test
+  public void backtrackToTemplate() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/fixed/{a}/end", "template");
+    router.add("/fixed/fixed/other", "literal");
+
+    PathRouter.Match<String> match = router.find("/fixed/fixed/end");
+    assertEquals("template", match.getValue());
+    assertEquals("fixed", match.getParameters().get("a"));
+  }
+
+  @Test
+  public void styledAndMixedSegments() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/matrix/{;id*}", "matrix");
+    router.add("/files/{name}.{ext}", "file");
+    router.add("/files/{file}", "any");
+
+    assertEquals(";id=3;id=4", router.find("/matrix/;id=3;id=4").getParameters().get("id"));
+
+    PathRouter.Match<String> match = router.find("/files/report.pdf");
+    assertEquals("file", match.getValue());
+    assertEquals("report", match.getParameters().get("name"));
+    assertEquals("pdf", match.getParameters().get("ext"));
+
+    assertEquals("any", router.find("/files/report").getValue());
+  }
+
+  @Test
+  public void noMatch() {
+    PathRouter<String> router = new PathRouter<>();
+    router.add("/", "root");
+    router.add("/fixed/{a}/fixed/", "op");
+
+    assertEquals("root", router.find(null).getValue());
+    assertEquals("root", router.find("").getValue());
+    // empty values are not allowed
+    assertNull(router.find("/fixed//fixed/"));
+    // trailing slash is significant
+    assertNull(router.find("/fixed/1/fixed"));
+    assertNull(router.find("/fixed/1/fixed/more"));
+  }
+}
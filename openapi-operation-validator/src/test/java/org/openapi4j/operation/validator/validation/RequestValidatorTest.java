@@ -1,23 +1,43 @@
 package org.openapi4j.operation.validator.validation;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.Test;
 import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.Response;
+import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 import org.openapi4j.operation.validator.model.impl.DefaultResponse;
 import org.openapi4j.parser.OpenApi3Parser;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.model.v3.Operation;
 import org.openapi4j.parser.model.v3.Path;
+import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
 
 import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assert.assertNotNull;
 import static org.openapi4j.operation.validator.model.Request.Method.GET;
 import static org.openapi4j.operation.validator.model.Request.Method.POST;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_VALIDATION;
 
 public class RequestValidatorTest {
   @Test(expected = ValidationException.class)
@@ -132,6 +152,115 @@ public class RequestValidatorTest {
       true);
   }
 
+  @Test
+  public void sharedSchemaValidators() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+
+    // Count the schemas with type keyword
+    AtomicInteger count = new AtomicInteger();
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.addValidator("type", (ctx, schemaNode, schemaParentNode, parentSchema) -> {
+      count.incrementAndGet();
+      return new SchemaValidator(ctx, "type", JsonNodeFactory.instance.objectNode());
+    });
+
+    for (int i = 0; i < 2; i++) {
+      RequestValidator requestValidator = new RequestValidator(context, api);
+      requestValidator.getValidator(api.getPathItemByOperationId("op1"), api.getOperationById("op1"));
+      requestValidator.getValidator(api.getPathItemByOperationId("op2"), api.getOperationById("op2"));
+    }
+
+    // X-Rate-Limit header schema is the same in both operations
+    assertEquals(3, count.get());
+  }
+
+  @Test
+  public void warmUp() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+
+    // Count the schemas with type keyword
+    AtomicInteger count = new AtomicInteger();
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.addValidator("type", (ctx, schemaNode, schemaParentNode, parentSchema) -> {
+      count.incrementAndGet();
+      return new SchemaValidator(ctx, "type", JsonNodeFactory.instance.objectNode());
+    });
+    RequestValidator requestValidator = new RequestValidator(context, api);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    Map<String, Long> durations;
+    try {
+      durations = requestValidator.warmUp(executor);
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(2, durations.size());
+    assertTrue(durations.containsKey("POST /fixed/"));
+    assertTrue(durations.containsKey("GET /fixed/{intPathParam}/fixed/{stringPathParam}/fixed/"));
+    assertTrue(count.get() > 0);
+
+    // Validators compiled by warm up are the ones used afterwards
+    int compiledCount = count.get();
+    for (String operationId : new String[]{"op1", "op2"}) {
+      Path path = api.getPathItemByOperationId(operationId);
+      Operation operation = api.getOperationById(operationId);
+      assertSame(requestValidator.getValidator(path, operation), requestValidator.getValidator(path, operation));
+    }
+    requestValidator.validate(
+      new DefaultRequest.Builder("https://api.com/fixed/", POST).header("Content-Type", "application/json").body(Body.from("{}")).build());
+    assertEquals(compiledCount, count.get());
+  }
+
+  @Test
+  public void parallelValidation() throws Exception {
+    URL specPath = RequestValidatorTest.class.getResource("/request/parallelValidation.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.setOption(PARALLEL_VALIDATION, true);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    context.setForkJoinPool(pool);
+
+    // Record the threads validating the body
+    List<Thread> bodyThreads = new CopyOnWriteArrayList<>();
+    context.addValidator("maxProperties", (ctx, schemaNode, schemaParentNode, parentSchema) -> new BaseJsonValidator<OAI3>(ctx, schemaNode, schemaParentNode, parentSchema) {
+      @Override
+      public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+        bodyThreads.add(Thread.currentThread());
+        return true;
+      }
+    });
+    RequestValidator requestValidator = new RequestValidator(context, api);
+
+    try {
+      requestValidator.validate(
+        new DefaultRequest.Builder("https://api.com/body/", POST).header("Content-Type", "application/json").body(Body.from("{}")).build());
+
+      // Body is validated in the pool of the context
+      assertEquals(1, bodyThreads.size());
+      assertTrue(bodyThreads.get(0) instanceof ForkJoinWorkerThread);
+      assertSame(pool, ((ForkJoinWorkerThread) bodyThreads.get(0)).getPool());
+
+      // Same results as sequential validation
+      Request rq = new DefaultRequest.Builder("https://api.com/fixed/string/fixed/2/fixed/", GET).header("Content-Type", "application/json").body(Body.from("{}")).build();
+      assertEquals(getResults(new RequestValidator(api), rq), getResults(requestValidator, rq));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private String getResults(RequestValidator requestValidator, Request rq) {
+    try {
+      requestValidator.validate(rq);
+      fail("Invalid path parameter not reported");
+      return null;
+    } catch (ValidationException ex) {
+      return ex.results().toString();
+    }
+  }
+
   @Test
   public void responseTest() throws Exception {
     URL specPath = RequestValidatorTest.class.getResource("/request/requestValidator-with-servers.yaml");
@@ -3,12 +3,27 @@ package org.openapi4j.operation.validator.validation.operation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.Test;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.operation.validator.model.Request;
 import org.openapi4j.operation.validator.model.impl.Body;
 import org.openapi4j.operation.validator.model.impl.DefaultRequest;
 import org.openapi4j.operation.validator.validation.OperationValidator;
+import org.openapi4j.parser.OpenApi3Parser;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
 import static org.openapi4j.operation.validator.model.Request.Method.GET;
 import static org.openapi4j.operation.validator.model.Request.Method.POST;
+import static org.openapi4j.operation.validator.validation.OperationValidationOptions.MULTIPART_MAX_SIZE;
+import static org.openapi4j.operation.validator.validation.OperationValidationOptions.MULTIPART_PART_MAX_SIZE;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.JSON_STREAMING;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.MULTIPART_STREAMING;
 
 public class RequestBodyTest extends OperationValidatorTestBase {
   @Test
@@ -116,4 +131,111 @@ public class RequestBodyTest extends OperationValidatorTestBase {
       val::validateBody,
       true);
   }
+
+  @Test
+  public void streamingRequestBodyCheck() throws Exception {
+    URL specPath = RequestBodyTest.class.getResource("/operation/operationValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.setOption(JSON_STREAMING, true);
+    OperationValidator val = new OperationValidator(
+      context,
+      api,
+      api.getPathItemByOperationId("rqBodyCheck"),
+      api.getOperationById("rqBodyCheck"));
+
+    check(
+      new DefaultRequest.Builder("/foo", GET).header("Content-Type", "application/json").body(Body.from("{\"paramInteger\": 1}")).build(),
+      val::validateBody,
+      true);
+    check(
+      new DefaultRequest.Builder("/foo", GET).header("Content-Type", "application/json").body(Body.from("{\"paramInteger\": \"1\"}")).build(),
+      val::validateBody,
+      false);
+    check(
+      new DefaultRequest.Builder("/foo", GET).header("Content-Type", "application/json").body(Body.from(new ByteArrayInputStream("{\"paramString\": \"2\"}".getBytes(StandardCharsets.UTF_8)))).build(),
+      val::validateBody,
+      true);
+    // Malformed content
+    check(
+      new DefaultRequest.Builder("/foo", GET).header("Content-Type", "application/json").body(Body.from("{\"paramString\": ")).build(),
+      val::validateBody,
+      false);
+  }
+
+  @Test
+  public void multipartSizeLimitCheck() throws Exception {
+    URL specPath = RequestBodyTest.class.getResource("/operation/operationValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.setOption(MULTIPART_STREAMING, true);
+    context.setLimit(MULTIPART_PART_MAX_SIZE, 8);
+    OperationValidator val = new OperationValidator(
+      context,
+      api,
+      api.getPathItemByOperationId("rqBodyCheck"),
+      api.getOperationById("rqBodyCheck"));
+
+    String content = "--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"foo.bin\"\r\n\r\n0123456789"
+      + "\r\n--1234\r\nContent-Disposition: form-data; name=\"paramInteger\"\r\n\r\n1"
+      + "\r\n--1234--\r\n";
+    Request rq = new DefaultRequest.Builder("/foo", POST)
+      .header("Content-Type", "multipart/form-data;boundary=\"1234\"")
+      .body(Body.from(content))
+      .build();
+
+    ValidationData<Void> validation = new ValidationData<>();
+    val.validateBody(rq, validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(Integer.valueOf(207), validation.results().items().get(0).code());
+
+    context.setLimit(MULTIPART_PART_MAX_SIZE, 16);
+    context.setLimit(MULTIPART_MAX_SIZE, 32);
+    validation = new ValidationData<>();
+    val.validateBody(rq, validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(Integer.valueOf(208), validation.results().items().get(0).code());
+
+    context.setLimit(MULTIPART_MAX_SIZE, -1);
+    check(rq, val::validateBody, true);
+  }
+
+  @Test
+  public void multipartStreamingLengthCheck() throws Exception {
+    URL specPath = RequestBodyTest.class.getResource("/operation/operationValidator.yaml");
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, false);
+    ValidationContext<OAI3> context = new ValidationContext<>(api.getContext());
+    context.setOption(MULTIPART_STREAMING, true);
+    OperationValidator val = new OperationValidator(
+      context,
+      api,
+      api.getPathItemByOperationId("rqBodyCheck"),
+      api.getOperationById("rqBodyCheck"));
+
+    // Lengths are the part sizes, not the file names
+    check(multipartRequest("a-long-document-name.pdf", "abc", "xyz"), val::validateBody, true);
+
+    // Part size is reported as schema maxLength error
+    ValidationData<Void> validation = new ValidationData<>();
+    val.validateBody(multipartRequest("foo.bin", "0123456789abcdefg", "xyz"), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(Integer.valueOf(1012), validation.results().items().get(0).code());
+
+    // Empty binary field
+    validation = new ValidationData<>();
+    val.validateBody(multipartRequest("foo.bin", "abc", ""), validation);
+    assertEquals(1, validation.results().size());
+    assertEquals(Integer.valueOf(1017), validation.results().items().get(0).code());
+  }
+
+  private Request multipartRequest(String fileName, String fileContent, String data) {
+    String content = "--1234\r\nContent-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n\r\n" + fileContent
+      + "\r\n--1234\r\nContent-Disposition: form-data; name=\"data\"\r\n\r\n" + data
+      + "\r\n--1234--\r\n";
+
+    return new DefaultRequest.Builder("/foo", POST)
+      .header("Content-Type", "multipart/form-data;boundary=\"1234\"")
+      .body(Body.from(content))
+      .build();
+  }
 }
@@ -0,0 +1,231 @@
+package org.openapi4j.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openapi4j.core.util.TreeUtil;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary encoding of tree nodes.
+ * <p/>
+ * Strings (field names & values) are written once and then referenced by index.
+ * Containers already written are referenced by index too, so nodes shared between trees
+ * (i.e. local reference contents) are still shared when read back.
+ * <p/>
+ * A codec instance holds the tables of a whole stream, it must be used for one stream only.
+ */
+class BinaryTreeCodec {
+  private static final String UNSUPPORTED_NODE_ERR_MSG = "Unsupported node type '%s'.";
+  private static final String UNKNOWN_TAG_ERR_MSG = "Unknown node tag '%s'.";
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte BIG_INTEGER = 5;
+  private static final byte FLOAT = 6;
+  private static final byte DOUBLE = 7;
+  private static final byte BIG_DECIMAL = 8;
+  private static final byte STRING = 9;
+  private static final byte BINARY = 10;
+  private static final byte OBJECT = 11;
+  private static final byte ARRAY = 12;
+  private static final byte CONTAINER_REF = 13;
+
+  private static final int NEW_STRING = -1;
+
+  private final JsonNodeFactory nodeFactory = TreeUtil.json.getNodeFactory();
+
+  // Write tables
+  private final Map<String, Integer> writtenStrings = new HashMap<>();
+  private final Map<JsonNode, Integer> writtenContainers = new IdentityHashMap<>();
+  // Read tables
+  private final List<String> readStrings = new ArrayList<>();
+  private final List<JsonNode> readContainers = new ArrayList<>();
+
+  void writeTree(final DataOutputStream out, final JsonNode node) throws IOException {
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      out.writeByte(NULL);
+    } else if (node.isContainerNode()) {
+      writeContainer(out, node);
+    } else if (node.isTextual()) {
+      out.writeByte(STRING);
+      writeString(out, node.textValue());
+    } else if (node.isBoolean()) {
+      out.writeByte(node.booleanValue() ? TRUE : FALSE);
+    } else if (node.isNumber()) {
+      writeNumber(out, node);
+    } else if (node.isBinary()) {
+      out.writeByte(BINARY);
+      writeBytes(out, node.binaryValue());
+    } else {
+      throw new IOException(String.format(UNSUPPORTED_NODE_ERR_MSG, node.getNodeType()));
+    }
+  }
+
+  JsonNode readTree(final DataInputStream in) throws IOException {
+    final byte tag = in.readByte();
+
+    switch (tag) {
+      case NULL:
+        return nodeFactory.nullNode();
+      case TRUE:
+        return nodeFactory.booleanNode(true);
+      case FALSE:
+        return nodeFactory.booleanNode(false);
+      case INT:
+        return nodeFactory.numberNode(in.readInt());
+      case LONG:
+        return nodeFactory.numberNode(in.readLong());
+      case BIG_INTEGER:
+        return nodeFactory.numberNode(new BigInteger(readBytes(in)));
+      case FLOAT:
+        return nodeFactory.numberNode(in.readFloat());
+      case DOUBLE:
+        return nodeFactory.numberNode(in.readDouble());
+      case BIG_DECIMAL:
+        return nodeFactory.numberNode(new BigDecimal(readString(in)));
+      case STRING:
+        return nodeFactory.textNode(readString(in));
+      case BINARY:
+        return nodeFactory.binaryNode(readBytes(in));
+      case OBJECT:
+        return readObject(in);
+      case ARRAY:
+        return readArray(in);
+      case CONTAINER_REF:
+        return readContainers.get(in.readInt());
+      default:
+        throw new IOException(String.format(UNKNOWN_TAG_ERR_MSG, tag));
+    }
+  }
+
+  void writeString(final DataOutputStream out, final String value) throws IOException {
+    Integer index = writtenStrings.get(value);
+    if (index != null) {
+      out.writeInt(index);
+      return;
+    }
+
+    writtenStrings.put(value, writtenStrings.size());
+    out.writeInt(NEW_STRING);
+    writeBytes(out, value.getBytes(UTF_8));
+  }
+
+  String readString(final DataInputStream in) throws IOException {
+    final int index = in.readInt();
+    if (index != NEW_STRING) {
+      return readStrings.get(index);
+    }
+
+    String value = new String(readBytes(in), UTF_8);
+    readStrings.add(value);
+    return value;
+  }
+
+  private void writeContainer(final DataOutputStream out, final JsonNode node) throws IOException {
+    Integer index = writtenContainers.get(node);
+    if (index != null) {
+      out.writeByte(CONTAINER_REF);
+      out.writeInt(index);
+      return;
+    }
+
+    writtenContainers.put(node, writtenContainers.size());
+
+    if (node.isObject()) {
+      out.writeByte(OBJECT);
+      out.writeInt(node.size());
+
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        writeString(out, field.getKey());
+        writeTree(out, field.getValue());
+      }
+    } else {
+      out.writeByte(ARRAY);
+      out.writeInt(node.size());
+
+      for (JsonNode item : node) {
+        writeTree(out, item);
+      }
+    }
+  }
+
+  private JsonNode readObject(final DataInputStream in) throws IOException {
+    ObjectNode node = nodeFactory.objectNode();
+    readContainers.add(node);
+
+    final int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      String fieldName = readString(in);
+      node.set(fieldName, readTree(in));
+    }
+
+    return node;
+  }
+
+  private JsonNode readArray(final DataInputStream in) throws IOException {
+    ArrayNode node = nodeFactory.arrayNode();
+    readContainers.add(node);
+
+    final int size = in.readInt();
+    for (int i = 0; i < size; i++) {
+      node.add(readTree(in));
+    }
+
+    return node;
+  }
+
+  private void writeNumber(final DataOutputStream out, final JsonNode node) throws IOException {
+    switch (node.numberType()) {
+      case INT:
+        out.writeByte(INT);
+        out.writeInt(node.intValue());
+        break;
+      case LONG:
+        out.writeByte(LONG);
+        out.writeLong(node.longValue());
+        break;
+      case BIG_INTEGER:
+        out.writeByte(BIG_INTEGER);
+        writeBytes(out, node.bigIntegerValue().toByteArray());
+        break;
+      case FLOAT:
+        out.writeByte(FLOAT);
+        out.writeFloat(node.floatValue());
+        break;
+      case DOUBLE:
+        out.writeByte(DOUBLE);
+        out.writeDouble(node.doubleValue());
+        break;
+      default: // BIG_DECIMAL
+        out.writeByte(BIG_DECIMAL);
+        writeString(out, node.decimalValue().toString());
+        break;
+    }
+  }
+
+  private void writeBytes(final DataOutputStream out, final byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private byte[] readBytes(final DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return bytes;
+  }
+}
@@ -8,8 +8,14 @@ import org.openapi4j.core.validation.ValidationException;
 import org.openapi4j.parser.model.v3.OpenApi3;
 import org.openapi4j.parser.validation.v3.OpenApi3Validator;
 
+import java.io.*;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * The parser for Open API v3.x.x
@@ -17,6 +23,26 @@ import java.util.List;
 public class OpenApi3Parser extends OpenApiParser<OpenApi3> {
   private static final String NULL_SPEC_URL = "Failed to load spec from 'null' location";
   private static final String INVALID_SPEC = "Failed to load spec at '%s'";
+  private static final String SNAPSHOT_WRITE_ERR_MSG = "Failed to write snapshot at '%s'";
+
+  private final Executor executor;
+
+  /**
+   * Creates a parser loading the external documents sequentially.
+   */
+  public OpenApi3Parser() {
+    this(null);
+  }
+
+  /**
+   * Creates a parser loading the external documents concurrently.
+   * Use a bounded executor to limit the number of concurrent requests.
+   *
+   * @param executor The executor to load the external documents, {@code null} for sequential loading.
+   */
+  public OpenApi3Parser(Executor executor) {
+    this.executor = executor;
+  }
 
   /**
    * {@inheritDoc}
@@ -30,7 +56,7 @@ public class OpenApi3Parser extends OpenApiParser<OpenApi3> {
     OpenApi3 api;
 
     try {
-      OAI3Context context = new OAI3Context(url, authOptions);
+      OAI3Context context = new OAI3Context(url, authOptions, null, executor);
       api = TreeUtil.json.convertValue(context.getBaseDocument(), OpenApi3.class);
       api.setContext(context);
     } catch (IllegalArgumentException e) {
@@ -43,4 +69,63 @@ public class OpenApi3Parser extends OpenApiParser<OpenApi3> {
 
     return api;
   }
+
+  /**
+   * Parse the Open API specification from the given URL with a snapshot file as cache.
+   * <p/>
+   * The snapshot is loaded when present and up to date with the source documents.
+   * Otherwise, the specification is parsed with validation and the snapshot is (re)written.
+   *
+   * @param url          The given URL.
+   * @param authOptions  The given authentication values for all the chain to resolve.
+   * @param snapshotFile The snapshot file.
+   * @return The Open API model
+   * @throws ResolutionException In case of wrong path, JSON reference issue or failure when writing the snapshot.
+   * @throws ValidationException In case of validation error.
+   * @see OpenApi3Snapshot
+   */
+  public OpenApi3 parse(URL url, List<AuthOption> authOptions, File snapshotFile) throws ResolutionException, ValidationException {
+    if (url == null) {
+      throw new ResolutionException(NULL_SPEC_URL);
+    }
+
+    if (snapshotFile.isFile()) {
+      try (InputStream is = new FileInputStream(snapshotFile)) {
+        OpenApi3 api = OpenApi3Snapshot.load(is, authOptions);
+        if (api != null && url.toString().equals(api.getContext().getBaseUrl().toString())) {
+          return api;
+        }
+      } catch (IOException ignored) {
+        // Corrupted or unsupported snapshot, rebuild it
+      }
+    }
+
+    OpenApi3 api = parse(url, authOptions, true);
+
+    try {
+      writeSnapshot(api, authOptions, snapshotFile.getAbsoluteFile().toPath());
+    } catch (IOException e) {
+      throw new ResolutionException(String.format(SNAPSHOT_WRITE_ERR_MSG, snapshotFile), e);
+    }
+
+    return api;
+  }
+
+  private void writeSnapshot(OpenApi3 api, List<AuthOption> authOptions, Path snapshot) throws IOException, ResolutionException {
+    // Unique temporary file in the same directory, so concurrent writers never share it
+    Path tmp = Files.createTempFile(snapshot.getParent(), snapshot.getFileName().toString(), null);
+    try {
+      try (OutputStream os = Files.newOutputStream(tmp)) {
+        OpenApi3Snapshot.save(api, authOptions, os);
+      }
+
+      try {
+        Files.move(tmp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
 }
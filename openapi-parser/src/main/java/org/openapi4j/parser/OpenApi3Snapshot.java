@@ -0,0 +1,177 @@
+package org.openapi4j.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.exception.ResolutionException;
+import org.openapi4j.core.model.AuthOption;
+import org.openapi4j.core.model.OAIContext;
+import org.openapi4j.core.model.reference.Reference;
+import org.openapi4j.core.model.reference.ReferenceRegistry;
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.util.UrlContentRetriever;
+import org.openapi4j.parser.model.v3.OpenApi3;
+
+import java.io.*;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Binary snapshot of a parsed Open API v3 description.
+ * <p/>
+ * The snapshot holds the resolved document trees and the reference registry,
+ * so loading it skips document parsing, reference resolution and validation.
+ * The snapshot is keyed by a content hash of all the source documents,
+ * a snapshot is discarded when one of them has changed.
+ */
+public final class OpenApi3Snapshot {
+  private static final String INVALID_SNAPSHOT = "Not an Open API v3 snapshot or unsupported version.";
+  private static final String HASH_ERR_MSG = "Failed to read source document '%s'";
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private static final int MAGIC = 0x4F415333; // OAS3
+  private static final short VERSION = 1;
+
+  private OpenApi3Snapshot() {
+  }
+
+  /**
+   * Write a snapshot of the given API.
+   * <p/>
+   * Validation is not run when the snapshot is loaded,
+   * so the API should have been validated when parsed.
+   *
+   * @param api         The parsed API. Must be non {@code null}.
+   * @param authOptions The authentication values to read the source documents.
+   * @param os          The output stream to write to. It is not closed.
+   * @throws ResolutionException In case a source document can't be read to compute the content hash.
+   * @throws IOException         In case of write error.
+   */
+  public static void save(final OpenApi3 api,
+                          final List<AuthOption> authOptions,
+                          final OutputStream os) throws ResolutionException, IOException {
+
+    final OAIContext context = api.getContext();
+    final Collection<Reference> references = context.getReferenceRegistry().getReferences();
+    final SortedSet<String> sources = getSources(context.getBaseUrl(), references);
+
+    final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+    final BinaryTreeCodec codec = new BinaryTreeCodec();
+
+    out.writeInt(MAGIC);
+    out.writeShort(VERSION);
+
+    byte[] hash = hash(sources, authOptions);
+    out.writeInt(hash.length);
+    out.write(hash);
+
+    codec.writeString(out, context.getBaseUrl().toString());
+    out.writeInt(sources.size());
+    for (String source : sources) {
+      codec.writeString(out, source);
+    }
+
+    codec.writeTree(out, context.getBaseDocument());
+
+    out.writeInt(references.size());
+    for (Reference reference : references) {
+      codec.writeString(out, reference.getBaseUrl().toString());
+      codec.writeString(out, reference.getRef());
+      codec.writeTree(out, reference.getContent());
+    }
+
+    out.flush();
+  }
+
+  /**
+   * Read a snapshot.
+   *
+   * @param is          The input stream to read from. It is not closed.
+   * @param authOptions The authentication values to read the source documents.
+   * @return The API or {@code null} if one of the source documents has changed since the snapshot was written.
+   * @throws ResolutionException In case a source document can't be read to compute the content hash.
+   * @throws IOException         In case of read error or invalid snapshot.
+   */
+  public static OpenApi3 load(final InputStream is,
+                              final List<AuthOption> authOptions) throws ResolutionException, IOException {
+
+    final DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+    final BinaryTreeCodec codec = new BinaryTreeCodec();
+
+    if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+      throw new IOException(INVALID_SNAPSHOT);
+    }
+
+    byte[] expectedHash = new byte[in.readInt()];
+    in.readFully(expectedHash);
+
+    final URL baseUrl = new URL(codec.readString(in));
+    final int nbSources = in.readInt();
+    final SortedSet<String> sources = new TreeSet<>();
+    for (int i = 0; i < nbSources; i++) {
+      sources.add(codec.readString(in));
+    }
+
+    if (!MessageDigest.isEqual(expectedHash, hash(sources, authOptions))) {
+      return null;
+    }
+
+    final JsonNode baseDocument = codec.readTree(in);
+
+    final ReferenceRegistry referenceRegistry = new ReferenceRegistry(baseUrl);
+    final int nbReferences = in.readInt();
+    for (int i = 0; i < nbReferences; i++) {
+      URL refBaseUrl = new URL(codec.readString(in));
+      String ref = codec.readString(in);
+      referenceRegistry.addRef(refBaseUrl, ref, codec.readTree(in));
+    }
+
+    OAI3Context context = new OAI3Context(baseUrl, authOptions, baseDocument, referenceRegistry);
+    OpenApi3 api = TreeUtil.json.convertValue(baseDocument, OpenApi3.class);
+    api.setContext(context);
+
+    return api;
+  }
+
+  private static SortedSet<String> getSources(final URL baseUrl, final Collection<Reference> references) {
+    final SortedSet<String> sources = new TreeSet<>();
+
+    sources.add(baseUrl.toString());
+    for (Reference reference : references) {
+      sources.add(reference.getBaseUrl().toString());
+    }
+
+    return sources;
+  }
+
+  private static byte[] hash(final SortedSet<String> sources,
+                             final List<AuthOption> authOptions) throws ResolutionException, IOException {
+
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e); // Will never happen - SHA-256 is required on every JVM
+    }
+
+    final byte[] buffer = new byte[8192];
+
+    for (String source : sources) {
+      digest.update(source.getBytes(UTF_8));
+
+      try (InputStream is = UrlContentRetriever.instance().get(new URL(source), authOptions)) {
+        int length;
+        while ((length = is.read(buffer)) != -1) {
+          digest.update(buffer, 0, length);
+        }
+      } catch (ResolutionException e) {
+        throw new ResolutionException(String.format(HASH_ERR_MSG, source), e);
+      }
+    }
+
+    return digest.digest();
+  }
+}
@@ -0,0 +1,93 @@
+package org.openapi4j.parser;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openapi4j.core.model.reference.Reference;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.*;
+
+public class OpenApi3SnapshotTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void saveAndLoad() throws Exception {
+    check("/model/v3/oai-integration/petstore-expanded.yaml");
+    check("/validation/v3/path/valid/pathWithReference.yaml");
+  }
+
+  @Test
+  public void staleSnapshot() throws Exception {
+    File spec = copy("/validation/v3/path/valid/pathWithReference.yaml");
+    File reference = copy("/validation/v3/path/valid/reference.yaml");
+    File snapshotFile = new File(folder.getRoot(), "api.snapshot");
+
+    OpenApi3 api = new OpenApi3Parser().parse(spec.toURI().toURL(), null, snapshotFile);
+    assertTrue(snapshotFile.isFile());
+    assertNotNull(load(snapshotFile));
+
+    // From snapshot
+    OpenApi3 snapshotApi = new OpenApi3Parser().parse(spec.toURI().toURL(), null, snapshotFile);
+    JSONAssert.assertEquals(TreeUtil.toJson(api.toNode()), TreeUtil.toJson(snapshotApi.toNode()), true);
+
+    // Change external document
+    Files.write(reference.toPath(), "\n# changed".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    assertNull(load(snapshotFile));
+
+    // Snapshot is rewritten
+    new OpenApi3Parser().parse(spec.toURI().toURL(), null, snapshotFile);
+    assertNotNull(load(snapshotFile));
+
+    // No temporary file is left over
+    assertEquals(3, folder.getRoot().list().length);
+  }
+
+  @Test(expected = IOException.class)
+  public void invalidSnapshot() throws Exception {
+    OpenApi3Snapshot.load(new ByteArrayInputStream("foo".getBytes(StandardCharsets.UTF_8)), null);
+  }
+
+  private void check(String path) throws Exception {
+    URL specPath = getClass().getResource(path);
+    OpenApi3 api = new OpenApi3Parser().parse(specPath, true);
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    OpenApi3Snapshot.save(api, null, os);
+
+    OpenApi3 snapshotApi = OpenApi3Snapshot.load(new ByteArrayInputStream(os.toByteArray()), null);
+    assertNotNull(snapshotApi);
+
+    JSONAssert.assertEquals(TreeUtil.toJson(api.toNode()), TreeUtil.toJson(snapshotApi.toNode()), true);
+    assertEquals(api.getContext().getBaseUrl().toString(), snapshotApi.getContext().getBaseUrl().toString());
+    assertEquals(api.getContext().getBaseDocument(), snapshotApi.getContext().getBaseDocument());
+
+    for (Reference reference : api.getContext().getReferenceRegistry().getReferences()) {
+      Reference snapshotReference = snapshotApi.getContext().getReferenceRegistry().getRef(reference.getCanonicalRef());
+      assertNotNull(snapshotReference);
+      assertEquals(reference.getContent(), snapshotReference.getContent());
+    }
+  }
+
+  private File copy(String path) throws Exception {
+    File file = new File(folder.getRoot(), Paths.get(path).getFileName().toString());
+    Files.copy(Paths.get(getClass().getResource(path).toURI()), file.toPath());
+    return file;
+  }
+
+  private OpenApi3 load(File snapshotFile) throws Exception {
+    try (InputStream is = new FileInputStream(snapshotFile)) {
+      return OpenApi3Snapshot.load(is, null);
+    }
+  }
+}
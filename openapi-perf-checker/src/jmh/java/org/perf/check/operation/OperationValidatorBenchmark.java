@@ -0,0 +1,58 @@
+package org.perf.check.operation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Request validation of the same operation for each supported body content type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperationValidatorBenchmark {
+  private static final String SCHEMA_FILE = "operation/api.yaml";
+
+  @Param({"application/json", "form-urlencoded", "form-data", "multipart/mixed", "application/xml"})
+  public String contentType;
+
+  private Supplier<String> validation;
+
+  @Setup
+  public void setup() throws Exception {
+    final OpenApi4j openApi4j = new OpenApi4j(SCHEMA_FILE);
+
+    switch (contentType) {
+      case "application/json":
+        validation = openApi4j::validateJson;
+        break;
+      case "form-urlencoded":
+        validation = openApi4j::validateFormUrlEncoded;
+        break;
+      case "form-data":
+        validation = openApi4j::validateFormData;
+        break;
+      case "multipart/mixed":
+        validation = openApi4j::validateMultipartMixed;
+        break;
+      default:
+        validation = openApi4j::validateXml;
+        break;
+    }
+
+    // Fail early instead of measuring error reporting
+    String result = validation.get();
+    if (result != null) {
+      throw new IllegalStateException(result);
+    }
+  }
+
+  @Benchmark
+  public String validate() {
+    return validation.get();
+  }
+}
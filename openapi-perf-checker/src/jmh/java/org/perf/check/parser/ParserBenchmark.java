@@ -0,0 +1,36 @@
+package org.perf.check.parser;
+
+import org.openapi4j.parser.OpenApi3Parser;
+import org.openapi4j.parser.model.v3.OpenApi3;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the Document Description with and without validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+  private static final String SCHEMA_FILE = "org/openapi4j/parser/api-definition.yaml";
+
+  @Param({"false", "true"})
+  public boolean validate;
+
+  private URL specPath;
+
+  @Setup
+  public void setup() {
+    specPath = getClass().getClassLoader().getResource(SCHEMA_FILE);
+  }
+
+  @Benchmark
+  public OpenApi3 parse() throws Exception {
+    return new OpenApi3Parser().parse(specPath, validate);
+  }
+}
@@ -0,0 +1,69 @@
+package org.perf.check.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.openapi4j.schema.validator.v3.ValidationOptions.COMPILED_VALIDATION;
+
+/**
+ * Compares the default keyword map validation with the compiled validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidatorBenchmark {
+  private static final String SCHEMA_FILE = "schema/schema-draft4.json";
+  private static final String DATA_FILE = "schema/data.json";
+  private static final String DATA_SCHEMAS = "schemas";
+
+  @Param({"false", "true"})
+  public boolean compiled;
+
+  @Param({"false", "true"})
+  public boolean fastFail;
+
+  private SchemaValidator schemaValidator;
+  private List<JsonNode> dataNodes;
+
+  @Setup
+  public void setup() throws Exception {
+    final JsonNode schema = TreeUtil.json.readTree(getClass().getClassLoader().getResource(SCHEMA_FILE));
+    final JsonNode data = TreeUtil.json.readTree(getClass().getClassLoader().getResource(DATA_FILE)).get(DATA_SCHEMAS);
+
+    ValidationContext<OAI3> context = new ValidationContext<>(new OAI3Context(new URL("file:/"), schema));
+    context.setOption(COMPILED_VALIDATION, compiled);
+    context.setFastFail(fastFail);
+    schemaValidator = new SchemaValidator(context, "schemas", schema);
+
+    dataNodes = new ArrayList<>();
+    Iterator<String> names = data.fieldNames();
+    while (names.hasNext()) {
+      dataNodes.add(data.get(names.next()));
+    }
+  }
+
+  @Benchmark
+  public void validate(Blackhole blackhole) {
+    for (JsonNode dataNode : dataNodes) {
+      ValidationData<Void> validation = new ValidationData<>();
+      schemaValidator.validate(dataNode, validation);
+      blackhole.consume(validation.isValid());
+    }
+  }
+}
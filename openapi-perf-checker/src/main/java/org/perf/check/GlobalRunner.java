@@ -8,28 +8,40 @@ import java.util.Scanner;
 
 public class GlobalRunner {
   public static void main(String[] args) throws Exception {
+    // Non interactive mode, i.e. "1 3" runs parser & operation runners
+    if (args.length != 0) {
+      for (String arg : args) {
+        if (!run(Integer.parseInt(arg))) {
+          return;
+        }
+      }
+      return;
+    }
+
     Scanner sc = new Scanner(System.in);
 
     while (true) {
       System.out.println("\nEnter performance runner index + ENTER :");
       System.out.println("1 - parser\n2 - schema\n3 - operation\nAny other key - exit");
-      if (sc.hasNextInt()) {
-        switch (sc.nextInt()) {
-          case 1:
-            ParserPerfRunner.main();
-            break;
-          case 2:
-            SchemaPerfRunner.main();
-            break;
-          case 3:
-            OperationPerfRunner.main();
-            break;
-          default:
-            return;
-        }
-      } else {
+      if (!sc.hasNextInt() || !run(sc.nextInt())) {
         return;
       }
     }
   }
+
+  private static boolean run(int runnerIndex) throws Exception {
+    switch (runnerIndex) {
+      case 1:
+        ParserPerfRunner.main();
+        return true;
+      case 2:
+        SchemaPerfRunner.main();
+        return true;
+      case 3:
+        OperationPerfRunner.main();
+        return true;
+      default:
+        return false;
+    }
+  }
 }
@@ -0,0 +1,32 @@
+package org.openapi4j.schema.validator;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Binary content which has been counted while streaming, without keeping its bytes.
+ * <p/>
+ * The text value is a label of the content (i.e. the file name).
+ * {@code minLength} and {@code maxLength} keywords are checked against the size in bytes,
+ * {@code pattern} and {@code enum} keywords are not checked since the content is unknown.
+ */
+public class StreamedBinaryNode extends TextNode {
+  private static final long serialVersionUID = 3512964712805128394L;
+
+  private final long size;
+
+  /**
+   * @param label The label of the content, i.e. the file name. Must be non {@code null}.
+   * @param size  The size of the content in bytes.
+   */
+  public StreamedBinaryNode(String label, long size) {
+    super(label);
+    this.size = size;
+  }
+
+  /**
+   * @return The size of the content in bytes.
+   */
+  public long byteCount() {
+    return size;
+  }
+}
@@ -3,22 +3,39 @@ package org.openapi4j.schema.validator;
 import org.openapi4j.core.model.OAI;
 import org.openapi4j.core.model.OAIContext;
 import org.openapi4j.core.util.MultiStringMap;
+import org.openapi4j.schema.validator.regex.JdkRegexEngine;
+import org.openapi4j.schema.validator.regex.RegexEngine;
+import org.openapi4j.schema.validator.v3.FormatChecker;
 import org.openapi4j.schema.validator.v3.ValidatorInstance;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
  * Validation context and option bag.
+ * <p/>
+ * Validators created from the same context share their references and cached schemas,
+ * re-use the context to save memory and creation time.
  *
  * @param <O> The Open API version type.
  */
 @SuppressWarnings("UnusedReturnValue")
 public class ValidationContext<O extends OAI> {
   private final OAIContext context;
-  private final Map<String, JsonValidator> visitedRefs = new HashMap<>();
+  // Complete reference validators, shared by all the threads
+  private final Map<String, JsonValidator> visitedRefs = new ConcurrentHashMap<>();
+  // Reference validators being created by the current thread
+  private final ThreadLocal<PendingReferences> pendingRefs = new ThreadLocal<>();
+  private final Map<Object, JsonValidator> sharedValidators = new ConcurrentHashMap<>();
   private final Map<Byte, Boolean> defaultOptions = new HashMap<>();
+  private final Map<Byte, Long> limits = new HashMap<>();
   private final MultiStringMap<ValidatorInstance> additionalValidators = new MultiStringMap<>(true, true);
+  private final Map<String, FormatChecker> formatCheckers = new HashMap<>();
+  private RegexEngine regexEngine = JdkRegexEngine.instance();
+  private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
   private boolean isFastFail;
 
   public ValidationContext(OAIContext context) {
@@ -50,13 +67,47 @@ public class ValidationContext<O extends OAI> {
 
   /**
    * Add a reference to avoid looping.
+   * The reference is only visible to the current thread until the outermost reference is ended,
+   * so other threads never get a validator still under creation.
+   * Each call must be balanced by {@link #endReference(boolean)}.
    * This is internally used, you should not call this directly.
    *
    * @param ref       The reference expression.
    * @param validator The associated validator.
    */
   public ValidationContext<O> addReference(String ref, JsonValidator validator) {
-    visitedRefs.put(ref, validator);
+    PendingReferences pending = pendingRefs.get();
+    if (pending == null) {
+      pending = new PendingReferences();
+      pendingRefs.set(pending);
+    }
+
+    pending.refs.put(ref, validator);
+    pending.depth++;
+    return this;
+  }
+
+  /**
+   * End the creation of the last added reference.
+   * References of the current thread are shared once the outermost one is successfully created.
+   * This is internally used, you should not call this directly.
+   *
+   * @param completed {@code false} if the creation failed.
+   */
+  public ValidationContext<O> endReference(boolean completed) {
+    PendingReferences pending = pendingRefs.get();
+    pending.failed |= !completed;
+
+    if (--pending.depth == 0) {
+      pendingRefs.remove();
+
+      if (!pending.failed) {
+        for (Map.Entry<String, JsonValidator> entry : pending.refs.entrySet()) {
+          visitedRefs.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+
     return this;
   }
 
@@ -68,9 +119,41 @@ public class ValidationContext<O extends OAI> {
    * @return The associated validator.
    */
   public JsonValidator getReference(String ref) {
+    PendingReferences pending = pendingRefs.get();
+    if (pending != null) {
+      JsonValidator validator = pending.refs.get(ref);
+      if (validator != null) {
+        return validator;
+      }
+    }
+
     return visitedRefs.get(ref);
   }
 
+  /**
+   * Get the validator associated to the given key or create it.
+   * Validators of different keys are created concurrently, no lock is held while creating.
+   * When the same key is created concurrently, the first cached validator is returned to all callers.
+   * This is internally used, you should not call this directly.
+   *
+   * @param key     The key of the validator, i.e. the schema content.
+   * @param factory The creation of the validator on missing key.
+   * @return The cached or created validator.
+   */
+  public JsonValidator getSharedValidator(Object key, Supplier<? extends JsonValidator> factory) {
+    JsonValidator validator = sharedValidators.get(key);
+    if (validator == null) {
+      validator = factory.get();
+
+      JsonValidator cached = sharedValidators.putIfAbsent(key, validator);
+      if (cached != null) {
+        validator = cached;
+      }
+    }
+
+    return validator;
+  }
+
   public ValidationContext<O> setOption(byte option, boolean value) {
     defaultOptions.put(option, value);
     return this;
@@ -86,6 +169,29 @@ public class ValidationContext<O extends OAI> {
     return Boolean.TRUE.equals(defaultOptions.get(option));
   }
 
+  /**
+   * Set the value of the given limit.
+   *
+   * @param limit The given limit.
+   * @param value The value, negative for unlimited.
+   * @return this.
+   */
+  public ValidationContext<O> setLimit(byte limit, long value) {
+    limits.put(limit, value);
+    return this;
+  }
+
+  /**
+   * Get the value from the given limit.
+   *
+   * @param limit The given limit.
+   * @return The corresponding value, {@code -1} (i.e. unlimited) if the limit is not set.
+   */
+  public long getLimit(byte limit) {
+    Long value = limits.get(limit);
+    return (value != null) ? value : -1;
+  }
+
   /**
    * Get the additional validators associated to the context.
    */
@@ -105,4 +211,75 @@ public class ValidationContext<O extends OAI> {
     additionalValidators.put(keyword, validatorInstantiation);
     return this;
   }
+
+  /**
+   * Get the format checker associated to the context.
+   *
+   * @param format The format name.
+   * @return The checker or {@code null} if none is registered for this format.
+   */
+  public FormatChecker getFormatChecker(String format) {
+    return formatCheckers.get(format);
+  }
+
+  /**
+   * Add a format checker as an override or a custom one for the given format.
+   * The checker is resolved when the schema validator is created.
+   *
+   * @param format  The format name.
+   * @param checker The checker to call when a validation should occur.
+   * @return this.
+   */
+  public ValidationContext<O> addFormatChecker(String format, FormatChecker checker) {
+    formatCheckers.put(format, checker);
+    return this;
+  }
+
+  /**
+   * Get the regular expression engine.
+   *
+   * @return The engine, {@link JdkRegexEngine} without step budget by default.
+   */
+  public RegexEngine getRegexEngine() {
+    return regexEngine;
+  }
+
+  /**
+   * Set the regular expression engine used by the pattern related keywords.
+   * The engine is used when the schema validator is created.
+   *
+   * @param regexEngine The engine.
+   * @return this.
+   */
+  public ValidationContext<O> setRegexEngine(RegexEngine regexEngine) {
+    this.regexEngine = regexEngine;
+    return this;
+  }
+
+  /**
+   * Get the pool used for parallel validation.
+   *
+   * @return The pool, the common pool by default.
+   */
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  /**
+   * Set the pool used for parallel validation.
+   *
+   * @param forkJoinPool The pool.
+   * @return this.
+   * @see org.openapi4j.schema.validator.v3.ValidationOptions#PARALLEL_VALIDATION
+   */
+  public ValidationContext<O> setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+    return this;
+  }
+
+  private static class PendingReferences {
+    private final Map<String, JsonValidator> refs = new HashMap<>();
+    private int depth;
+    private boolean failed;
+  }
 }
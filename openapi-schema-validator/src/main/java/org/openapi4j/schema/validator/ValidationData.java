@@ -25,6 +25,18 @@ public final class ValidationData<V> {
     this.delegate = delegate;
   }
 
+  /**
+   * Create validation data collecting at most the given number of errors.
+   * Validators stop when the maximum is reached, the results stay invalid.
+   *
+   * @param delegate  The user object.
+   * @param maxErrors The maximum number of errors. Must be positive.
+   */
+  public ValidationData(V delegate, int maxErrors) {
+    this.validationResults = new ValidationResults(maxErrors);
+    this.delegate = delegate;
+  }
+
   /**
    * Get the current validation results.
    *
@@ -102,4 +114,22 @@ public final class ValidationData<V> {
   public boolean isValid() {
     return validationResults.isValid();
   }
+
+  /**
+   * Check if the maximum number of errors is reached.
+   *
+   * @return {@code true} if no more error will be collected.
+   */
+  public boolean isMaxErrorsReached() {
+    return validationResults.isMaxErrorsReached();
+  }
+
+  /**
+   * Get the maximum number of errors collected.
+   *
+   * @return The maximum number of errors, {@code Integer.MAX_VALUE} when unbounded.
+   */
+  public int maxErrors() {
+    return validationResults.maxErrors();
+  }
 }
@@ -0,0 +1,106 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.Arrays;
+
+/**
+ * Set of code points as sorted inclusive ranges.
+ */
+final class CharClass {
+  // low0, high0, low1, high1, ...
+  private final int[] ranges;
+  private final boolean negated;
+
+  CharClass(int[] ranges, boolean negated) {
+    this.ranges = ranges;
+    this.negated = negated;
+  }
+
+  static CharClass of(int codePoint) {
+    return new CharClass(new int[]{codePoint, codePoint}, false);
+  }
+
+  CharClass negate() {
+    return new CharClass(ranges, !negated);
+  }
+
+  boolean matches(int codePoint) {
+    // Most of the classes have few ranges
+    for (int i = 0; i < ranges.length; i += 2) {
+      if (codePoint < ranges[i]) {
+        break;
+      }
+      if (codePoint <= ranges[i + 1]) {
+        return !negated;
+      }
+    }
+    return negated;
+  }
+
+  /**
+   * @return The code point of a single character class.
+   */
+  int single() {
+    if (negated || ranges.length != 2 || ranges[0] != ranges[1]) {
+      throw new IllegalArgumentException("Illegal character range");
+    }
+    return ranges[0];
+  }
+
+  static class Builder {
+    private int[] ranges = new int[8];
+    private int size;
+
+    void add(CharClass charClass) {
+      if (!charClass.negated) {
+        for (int i = 0; i < charClass.ranges.length; i += 2) {
+          addRange(charClass.ranges[i], charClass.ranges[i + 1]);
+        }
+        return;
+      }
+
+      // Complement of the ranges
+      int low = 0;
+      for (int i = 0; i < charClass.ranges.length; i += 2) {
+        if (charClass.ranges[i] > low) {
+          addRange(low, charClass.ranges[i] - 1);
+        }
+        low = charClass.ranges[i + 1] + 1;
+      }
+      if (low <= Character.MAX_CODE_POINT) {
+        addRange(low, Character.MAX_CODE_POINT);
+      }
+    }
+
+    void addRange(int low, int high) {
+      if (size == ranges.length) {
+        ranges = Arrays.copyOf(ranges, size * 2);
+      }
+      ranges[size++] = low;
+      ranges[size++] = high;
+    }
+
+    CharClass build(boolean negated) {
+      // Sort and merge the ranges
+      long[] sorted = new long[size / 2];
+      for (int i = 0; i < sorted.length; i++) {
+        sorted[i] = ((long) ranges[i * 2] << 32) | ranges[i * 2 + 1];
+      }
+      Arrays.sort(sorted);
+
+      int[] merged = new int[size];
+      int count = 0;
+      for (long range : sorted) {
+        int low = (int) (range >>> 32);
+        int high = (int) range;
+        if (count != 0 && low <= merged[count - 1] + 1) {
+          merged[count - 1] = Math.max(merged[count - 1], high);
+        } else {
+          merged[count++] = low;
+          merged[count++] = high;
+        }
+      }
+
+      return new CharClass(Arrays.copyOf(merged, count), negated);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * Regular expression engine based on {@link Pattern}.
+ * <p/>
+ * This is the default engine. The JDK engine backtracks, some expressions can take exponential time on crafted inputs.
+ * When a step budget is given, each character read by the matcher counts as a step.
+ */
+public class JdkRegexEngine implements RegexEngine {
+  private static final JdkRegexEngine INSTANCE = new JdkRegexEngine(0);
+
+  private final long maxSteps;
+
+  /**
+   * @param maxSteps The maximum number of steps for a single match, {@code 0} for unlimited.
+   */
+  public JdkRegexEngine(long maxSteps) {
+    this.maxSteps = maxSteps;
+  }
+
+  /**
+   * @return The engine without step budget.
+   */
+  public static JdkRegexEngine instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Regex compile(String expression) {
+    return new JdkRegex(Pattern.compile(expression), maxSteps);
+  }
+
+  private static class JdkRegex implements Regex {
+    private final Pattern pattern;
+    private final long maxSteps;
+
+    JdkRegex(Pattern pattern, long maxSteps) {
+      this.pattern = pattern;
+      this.maxSteps = maxSteps;
+    }
+
+    @Override
+    public boolean find(CharSequence input) {
+      return pattern.matcher(budget(input)).find();
+    }
+
+    @Override
+    public boolean matches(CharSequence input) {
+      return pattern.matcher(budget(input)).matches();
+    }
+
+    private CharSequence budget(CharSequence input) {
+      return (maxSteps > 0) ? new BudgetCharSequence(input, pattern.pattern(), maxSteps) : input;
+    }
+  }
+
+  /**
+   * Counts the characters read by the matcher.
+   */
+  private static class BudgetCharSequence implements CharSequence {
+    private final CharSequence input;
+    private final String expression;
+    private final long maxSteps;
+    private long steps;
+
+    BudgetCharSequence(CharSequence input, String expression, long maxSteps) {
+      this.input = input;
+      this.expression = expression;
+      this.maxSteps = maxSteps;
+    }
+
+    @Override
+    public int length() {
+      return input.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (++steps > maxSteps) {
+        throw new RegexBudgetException(expression, maxSteps);
+      }
+      return input.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return input.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return input.toString();
+    }
+  }
+}
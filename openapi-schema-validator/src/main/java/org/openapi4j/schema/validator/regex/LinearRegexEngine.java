@@ -0,0 +1,40 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Regular expression engine with matching time linear to the input length.
+ * <p/>
+ * Expressions are compiled to automatons which never backtrack, this engine is safe against
+ * regular expression denial of service from untrusted schemas or inputs.
+ * <p/>
+ * The supported syntax is the JDK one without back-references, lookarounds, possessive quantifiers,
+ * inline flags and unicode properties. Expressions using those constructs are rejected at compilation.
+ * <p/>
+ * When a step budget is given, each state visited by the automaton counts as a step.
+ */
+public class LinearRegexEngine implements RegexEngine {
+  private static final LinearRegexEngine INSTANCE = new LinearRegexEngine(0);
+
+  private final long maxSteps;
+
+  /**
+   * @param maxSteps The maximum number of steps for a single match, {@code 0} for unlimited.
+   */
+  public LinearRegexEngine(long maxSteps) {
+    this.maxSteps = maxSteps;
+  }
+
+  /**
+   * @return The engine without step budget.
+   */
+  public static LinearRegexEngine instance() {
+    return INSTANCE;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Regex compile(String expression) {
+    return RegexCompiler.compile(expression, maxSteps);
+  }
+}
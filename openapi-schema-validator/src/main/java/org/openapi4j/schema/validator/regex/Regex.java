@@ -0,0 +1,26 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Compiled regular expression.
+ * <p/>
+ * Implementations must be thread-safe.
+ */
+public interface Regex {
+  /**
+   * Find the expression anywhere in the given input.
+   *
+   * @param input The input to search in.
+   * @return {@code true} if a subsequence of the input matches.
+   * @throws RegexBudgetException If the step budget is exhausted.
+   */
+  boolean find(final CharSequence input);
+
+  /**
+   * Match the expression against the entire given input.
+   *
+   * @param input The input to match.
+   * @return {@code true} if the whole input matches.
+   * @throws RegexBudgetException If the step budget is exhausted.
+   */
+  boolean matches(final CharSequence input);
+}
@@ -0,0 +1,10 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Thrown when a match exhausts the step budget of the regular expression engine.
+ */
+public class RegexBudgetException extends RuntimeException {
+  public RegexBudgetException(String expression, long maxSteps) {
+    super(String.format("Matching '%s' exceeded the budget of %d steps.", expression, maxSteps));
+  }
+}
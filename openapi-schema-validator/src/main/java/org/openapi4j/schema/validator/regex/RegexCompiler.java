@@ -0,0 +1,638 @@
+package org.openapi4j.schema.validator.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles a regular expression to a {@link RegexProgram}.
+ * <p/>
+ * Supported syntax is the subset of the JDK dialect without backtracking features:
+ * literals, escapes, character classes, predefined classes (\d, \w, \s and their negations),
+ * groups (capturing, non-capturing and named), alternation, greedy or lazy quantifiers,
+ * anchors (^, $, \A, \z, \Z) and word boundaries (\b, \B), quantified or not.
+ * <p/>
+ * Back-references, lookarounds, possessive quantifiers, inline flags and unicode properties are rejected.
+ */
+final class RegexCompiler {
+  private static final String UNSUPPORTED_ERR_MSG = "Unsupported %s at index %d in '%s'.";
+  private static final String SYNTAX_ERR_MSG = "%s at index %d in '%s'.";
+  private static final int MAX_PROGRAM_SIZE = 100_000;
+
+  // Predefined classes, same as JDK without UNICODE_CHARACTER_CLASS flag
+  static final CharClass DIGIT = new CharClass(new int[]{'0', '9'}, false);
+  static final CharClass WORD = new CharClass(new int[]{'0', '9', 'A', 'Z', '_', '_', 'a', 'z'}, false);
+  static final CharClass SPACE = new CharClass(new int[]{'\t', '\r', ' ', ' '}, false);
+  // Any character except line terminators
+  private static final CharClass DOT = new CharClass(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029}, true);
+
+  private final String expression;
+  private int pos;
+
+  private RegexCompiler(String expression) {
+    this.expression = expression;
+  }
+
+  static RegexProgram compile(String expression, long maxSteps) {
+    RegexCompiler compiler = new RegexCompiler(expression);
+    Node root = compiler.parseAlternation();
+    if (compiler.pos < expression.length()) {
+      // Only a closing parenthesis can stop the parsing
+      throw compiler.syntaxError("Unmatched closing ')'");
+    }
+
+    Emitter emitter = new Emitter(expression);
+    root.emit(emitter);
+    emitter.add(RegexProgram.MATCH, 0, 0);
+    return emitter.toProgram(maxSteps);
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Parsing
+  //////////////////////////////////////////////////////////////////////
+
+  private Node parseAlternation() {
+    List<Node> branches = new ArrayList<>();
+    branches.add(parseConcatenation());
+
+    while (pos < expression.length() && expression.charAt(pos) == '|') {
+      pos++;
+      branches.add(parseConcatenation());
+    }
+
+    return (branches.size() == 1) ? branches.get(0) : new Alternation(branches);
+  }
+
+  private Node parseConcatenation() {
+    List<Node> nodes = new ArrayList<>();
+
+    while (pos < expression.length()) {
+      char c = expression.charAt(pos);
+      if (c == '|' || c == ')') {
+        break;
+      }
+      nodes.add(parseQuantified());
+    }
+
+    return (nodes.size() == 1) ? nodes.get(0) : new Concatenation(nodes);
+  }
+
+  private Node parseQuantified() {
+    Node atom = parseAtom();
+
+    while (pos < expression.length()) {
+      int min;
+      int max;
+
+      char c = expression.charAt(pos);
+      if (c == '*') {
+        min = 0;
+        max = -1;
+        pos++;
+      } else if (c == '+') {
+        min = 1;
+        max = -1;
+        pos++;
+      } else if (c == '?') {
+        min = 0;
+        max = 1;
+        pos++;
+      } else if (c == '{') {
+        if (!isCountedQuantifier()) {
+          throw syntaxError("Illegal repetition");
+        }
+        pos++;
+        min = parseNumber();
+        max = min;
+        if (expression.charAt(pos) == ',') {
+          pos++;
+          max = (expression.charAt(pos) == '}') ? -1 : parseNumber();
+        }
+        pos++; // }
+        if (max != -1 && max < min) {
+          throw syntaxError("Illegal repetition range");
+        }
+        if (Math.max(min, max) > MAX_PROGRAM_SIZE) {
+          throw syntaxError("Repetition is too large");
+        }
+      } else {
+        break;
+      }
+
+      // Lazy quantifiers give the same answer for boolean matching
+      if (pos < expression.length()) {
+        if (expression.charAt(pos) == '?') {
+          pos++;
+        } else if (expression.charAt(pos) == '+') {
+          throw unsupported("possessive quantifier", pos);
+        }
+      }
+
+      if (atom instanceof Assertion) {
+        // Assertions are zero-width, repeating one is the same as checking it once
+        atom = (min == 0) ? new Concatenation(new ArrayList<>()) : atom;
+      } else {
+        atom = new Repetition(atom, min, max);
+      }
+    }
+
+    return atom;
+  }
+
+  private Node parseAtom() {
+    char c = expression.charAt(pos);
+
+    switch (c) {
+      case '(':
+        return parseGroup();
+      case '[':
+        pos++;
+        return new CharNode(parseClass());
+      case '.':
+        pos++;
+        return new CharNode(DOT);
+      case '^':
+        pos++;
+        return new Assertion(RegexProgram.BEGIN);
+      case '$':
+        pos++;
+        return new Assertion(RegexProgram.END_LINE);
+      case '\\':
+        return parseEscape();
+      case '*':
+      case '+':
+      case '?':
+        throw syntaxError("Dangling meta character '" + c + "'");
+      case '{':
+        throw syntaxError("Illegal repetition");
+      default:
+        int cp = expression.codePointAt(pos);
+        pos += Character.charCount(cp);
+        return new CharNode(CharClass.of(cp));
+    }
+  }
+
+  private Node parseGroup() {
+    int start = pos++;
+
+    if (pos < expression.length() && expression.charAt(pos) == '?') {
+      pos++;
+      char c = pos < expression.length() ? expression.charAt(pos) : 0;
+      if (c == ':') {
+        pos++;
+      } else if (c == '<' && pos + 1 < expression.length()
+        && expression.charAt(pos + 1) != '=' && expression.charAt(pos + 1) != '!') {
+        // Named group
+        int end = expression.indexOf('>', pos);
+        if (end == -1) {
+          throw syntaxError("Named group is not closed");
+        }
+        pos = end + 1;
+      } else {
+        throw unsupported("group construct (lookaround or inline flag)", start);
+      }
+    }
+
+    Node node = parseAlternation();
+    if (pos >= expression.length() || expression.charAt(pos) != ')') {
+      throw syntaxError("Unclosed group");
+    }
+    pos++;
+
+    return node;
+  }
+
+  private Node parseEscape() {
+    int start = pos++;
+    if (pos >= expression.length()) {
+      throw syntaxError("Unexpected internal error");
+    }
+
+    char c = expression.charAt(pos);
+    switch (c) {
+      case 'b':
+        pos++;
+        return new Assertion(RegexProgram.WORD_BOUNDARY);
+      case 'B':
+        pos++;
+        return new Assertion(RegexProgram.NOT_WORD_BOUNDARY);
+      case 'A':
+        pos++;
+        return new Assertion(RegexProgram.BEGIN);
+      case 'z':
+        pos++;
+        return new Assertion(RegexProgram.END);
+      case 'Z':
+        pos++;
+        return new Assertion(RegexProgram.END_LINE);
+      case 'Q':
+        return parseQuote();
+      default:
+        pos = start;
+        return new CharNode(parseClassEscape());
+    }
+  }
+
+  // \Q...\E
+  private Node parseQuote() {
+    pos++;
+    int end = expression.indexOf("\\E", pos);
+    String quoted = expression.substring(pos, end == -1 ? expression.length() : end);
+    pos = (end == -1) ? expression.length() : end + 2;
+
+    List<Node> nodes = new ArrayList<>();
+    quoted.codePoints().forEach(cp -> nodes.add(new CharNode(CharClass.of(cp))));
+    return new Concatenation(nodes);
+  }
+
+  /**
+   * Parse an escape which stands for a character or a predefined class.
+   */
+  private CharClass parseClassEscape() {
+    int start = pos++; // backslash
+    char c = expression.charAt(pos++);
+
+    switch (c) {
+      case 'd':
+        return DIGIT;
+      case 'D':
+        return DIGIT.negate();
+      case 'w':
+        return WORD;
+      case 'W':
+        return WORD.negate();
+      case 's':
+        return SPACE;
+      case 'S':
+        return SPACE.negate();
+      case 't':
+        return CharClass.of('\t');
+      case 'n':
+        return CharClass.of('\n');
+      case 'r':
+        return CharClass.of('\r');
+      case 'f':
+        return CharClass.of('\f');
+      case 'v':
+        return CharClass.of(0x0B);
+      case 'a':
+        return CharClass.of(0x07);
+      case 'e':
+        return CharClass.of(0x1B);
+      case '0':
+        return CharClass.of(parseOctal());
+      case 'x':
+        return CharClass.of(parseHex(2));
+      case 'u':
+        return CharClass.of(parseHex(4));
+      case 'c':
+        if (pos >= expression.length()) {
+          throw syntaxError("Illegal control escape sequence");
+        }
+        return CharClass.of(expression.charAt(pos++) ^ 64);
+      default:
+        if (c >= '1' && c <= '9') {
+          throw unsupported("back-reference", start);
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+          throw unsupported("escape sequence '\\" + c + "'", start);
+        }
+        // Escaped literal
+        pos--;
+        int cp = expression.codePointAt(pos);
+        pos += Character.charCount(cp);
+        return CharClass.of(cp);
+    }
+  }
+
+  private CharClass parseClass() {
+    boolean negated = false;
+    if (pos < expression.length() && expression.charAt(pos) == '^') {
+      negated = true;
+      pos++;
+    }
+
+    CharClass.Builder builder = new CharClass.Builder();
+    boolean first = true;
+
+    while (true) {
+      if (pos >= expression.length()) {
+        throw syntaxError("Unclosed character class");
+      }
+
+      char c = expression.charAt(pos);
+      if (c == ']' && !first) {
+        pos++;
+        break;
+      }
+      if (c == '[') {
+        throw unsupported("nested character class", pos);
+      }
+      if (c == '&' && pos + 1 < expression.length() && expression.charAt(pos + 1) == '&') {
+        throw unsupported("character class intersection", pos);
+      }
+      first = false;
+
+      CharClass item = parseClassItem();
+      if (item != null) {
+        builder.add(item);
+        continue;
+      }
+
+      // Single character, maybe a range
+      int low = parseClassChar();
+      if (pos + 1 < expression.length() && expression.charAt(pos) == '-' && expression.charAt(pos + 1) != ']') {
+        pos++;
+        if (expression.charAt(pos) == '\\' && parseClassItemPeek()) {
+          throw syntaxError("Illegal character range");
+        }
+        int high = parseClassChar();
+        if (high < low) {
+          throw syntaxError("Illegal character range");
+        }
+        builder.addRange(low, high);
+      } else {
+        builder.addRange(low, low);
+      }
+    }
+
+    return builder.build(negated);
+  }
+
+  // Predefined class inside a character class
+  private CharClass parseClassItem() {
+    return parseClassItemPeek() ? parseClassEscape() : null;
+  }
+
+  private boolean parseClassItemPeek() {
+    if (expression.charAt(pos) != '\\' || pos + 1 >= expression.length()) {
+      return false;
+    }
+
+    switch (expression.charAt(pos + 1)) {
+      case 'd':
+      case 'D':
+      case 'w':
+      case 'W':
+      case 's':
+      case 'S':
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private int parseClassChar() {
+    if (expression.charAt(pos) == '\\') {
+      if (pos + 1 < expression.length() && expression.charAt(pos + 1) == 'b') {
+        pos += 2;
+        return '\b';
+      }
+      CharClass single = parseClassEscape();
+      return single.single();
+    }
+
+    int cp = expression.codePointAt(pos);
+    pos += Character.charCount(cp);
+    return cp;
+  }
+
+  private boolean isCountedQuantifier() {
+    int i = pos + 1;
+    int digits = 0;
+    while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+      i++;
+      digits++;
+    }
+    if (digits == 0 || i >= expression.length()) {
+      return false;
+    }
+    if (expression.charAt(i) == ',') {
+      i++;
+      while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+        i++;
+      }
+    }
+    return i < expression.length() && expression.charAt(i) == '}';
+  }
+
+  private int parseNumber() {
+    int start = pos;
+    while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+      pos++;
+    }
+    try {
+      return Integer.parseInt(expression.substring(start, pos));
+    } catch (NumberFormatException e) {
+      throw syntaxError("Illegal repetition");
+    }
+  }
+
+  private int parseOctal() {
+    int value = 0;
+    int digits = 0;
+    while (digits < 3 && pos < expression.length()) {
+      char c = expression.charAt(pos);
+      if (c < '0' || c > '7' || value * 8 + (c - '0') > 0377) {
+        break;
+      }
+      value = value * 8 + (c - '0');
+      pos++;
+      digits++;
+    }
+    if (digits == 0) {
+      throw syntaxError("Illegal octal escape sequence");
+    }
+    return value;
+  }
+
+  private int parseHex(int length) {
+    if (pos + length > expression.length()) {
+      throw syntaxError("Illegal hexadecimal escape sequence");
+    }
+    try {
+      int value = Integer.parseInt(expression.substring(pos, pos + length), 16);
+      pos += length;
+      return value;
+    } catch (NumberFormatException e) {
+      throw syntaxError("Illegal hexadecimal escape sequence");
+    }
+  }
+
+  private IllegalArgumentException syntaxError(String message) {
+    return new IllegalArgumentException(String.format(SYNTAX_ERR_MSG, message, pos, expression));
+  }
+
+  private IllegalArgumentException unsupported(String feature, int index) {
+    return new IllegalArgumentException(String.format(UNSUPPORTED_ERR_MSG, feature, index, expression));
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Syntax tree
+  //////////////////////////////////////////////////////////////////////
+
+  private interface Node {
+    void emit(Emitter emitter);
+  }
+
+  private static class CharNode implements Node {
+    private final CharClass charClass;
+
+    CharNode(CharClass charClass) {
+      this.charClass = charClass;
+    }
+
+    @Override
+    public void emit(Emitter emitter) {
+      emitter.add(RegexProgram.CHAR, emitter.addClass(charClass), 0);
+    }
+  }
+
+  private static class Assertion implements Node {
+    private final int kind;
+
+    Assertion(int kind) {
+      this.kind = kind;
+    }
+
+    @Override
+    public void emit(Emitter emitter) {
+      emitter.add(RegexProgram.ASSERT, kind, 0);
+    }
+  }
+
+  private static class Concatenation implements Node {
+    private final List<Node> nodes;
+
+    Concatenation(List<Node> nodes) {
+      this.nodes = nodes;
+    }
+
+    @Override
+    public void emit(Emitter emitter) {
+      for (Node node : nodes) {
+        node.emit(emitter);
+      }
+    }
+  }
+
+  private static class Alternation implements Node {
+    private final List<Node> branches;
+
+    Alternation(List<Node> branches) {
+      this.branches = branches;
+    }
+
+    @Override
+    public void emit(Emitter emitter) {
+      int[] jumps = new int[branches.size() - 1];
+
+      for (int i = 0; i < branches.size() - 1; i++) {
+        int split = emitter.add(RegexProgram.SPLIT, 0, 0);
+        emitter.patch(split, split + 1, 0);
+        branches.get(i).emit(emitter);
+        jumps[i] = emitter.add(RegexProgram.JUMP, 0, 0);
+        emitter.patch(split, split + 1, emitter.size());
+      }
+      branches.get(branches.size() - 1).emit(emitter);
+
+      for (int jump : jumps) {
+        emitter.patch(jump, emitter.size(), 0);
+      }
+    }
+  }
+
+  private static class Repetition implements Node {
+    private final Node node;
+    private final int min;
+    private final int max;
+
+    Repetition(Node node, int min, int max) {
+      this.node = node;
+      this.min = min;
+      this.max = max;
+    }
+
+    @Override
+    public void emit(Emitter emitter) {
+      for (int i = 0; i < min; i++) {
+        node.emit(emitter);
+      }
+
+      if (max == -1) {
+        // L: split body, out; body; jump L
+        int split = emitter.add(RegexProgram.SPLIT, 0, 0);
+        node.emit(emitter);
+        emitter.add(RegexProgram.JUMP, split, 0);
+        emitter.patch(split, split + 1, emitter.size());
+      } else if (max > min) {
+        // Nested optionals, each one skips to the end
+        int[] splits = new int[max - min];
+        for (int i = 0; i < splits.length; i++) {
+          splits[i] = emitter.add(RegexProgram.SPLIT, 0, 0);
+          node.emit(emitter);
+        }
+        for (int split : splits) {
+          emitter.patch(split, split + 1, emitter.size());
+        }
+      }
+    }
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Program output
+  //////////////////////////////////////////////////////////////////////
+
+  private static class Emitter {
+    private final String expression;
+    private final List<CharClass> classes = new ArrayList<>();
+    private int[] ops = new int[16];
+    private int[] args1 = new int[16];
+    private int[] args2 = new int[16];
+    private int size;
+
+    Emitter(String expression) {
+      this.expression = expression;
+    }
+
+    int add(int op, int arg1, int arg2) {
+      if (size == MAX_PROGRAM_SIZE) {
+        throw new IllegalArgumentException(String.format("Expression '%s' is too large.", expression));
+      }
+      if (size == ops.length) {
+        ops = Arrays.copyOf(ops, size * 2);
+        args1 = Arrays.copyOf(args1, size * 2);
+        args2 = Arrays.copyOf(args2, size * 2);
+      }
+
+      ops[size] = op;
+      args1[size] = arg1;
+      args2[size] = arg2;
+      return size++;
+    }
+
+    void patch(int index, int arg1, int arg2) {
+      args1[index] = arg1;
+      args2[index] = arg2;
+    }
+
+    int addClass(CharClass charClass) {
+      classes.add(charClass);
+      return classes.size() - 1;
+    }
+
+    int size() {
+      return size;
+    }
+
+    RegexProgram toProgram(long maxSteps) {
+      return new RegexProgram(
+        expression,
+        Arrays.copyOf(ops, size),
+        Arrays.copyOf(args1, size),
+        Arrays.copyOf(args2, size),
+        classes.toArray(new CharClass[0]),
+        maxSteps);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Regular expression engine used by the pattern related keywords (pattern, patternProperties, additionalProperties).
+ *
+ * @see org.openapi4j.schema.validator.ValidationContext#setRegexEngine(RegexEngine)
+ */
+@FunctionalInterface
+public interface RegexEngine {
+  /**
+   * Compile the given expression.
+   *
+   * @param expression The regular expression.
+   * @return The compiled expression.
+   * @throws IllegalArgumentException If the expression is invalid or not supported by the engine.
+   */
+  Regex compile(final String expression);
+}
@@ -0,0 +1,203 @@
+package org.openapi4j.schema.validator.regex;
+
+/**
+ * Compiled automaton of a regular expression.
+ * <p/>
+ * All the threads of the automaton advance together on each input character,
+ * a state is visited at most once by position, so matching time is linear to the input length.
+ */
+final class RegexProgram implements Regex {
+  // Operations
+  static final int CHAR = 0;
+  static final int SPLIT = 1;
+  static final int JUMP = 2;
+  static final int ASSERT = 3;
+  static final int MATCH = 4;
+
+  // Assertion kinds
+  static final int BEGIN = 0;
+  static final int END = 1;
+  static final int END_LINE = 2;
+  static final int WORD_BOUNDARY = 3;
+  static final int NOT_WORD_BOUNDARY = 4;
+
+  private final String expression;
+  private final int[] ops;
+  private final int[] args1;
+  private final int[] args2;
+  private final CharClass[] classes;
+  private final long maxSteps;
+
+  RegexProgram(String expression, int[] ops, int[] args1, int[] args2, CharClass[] classes, long maxSteps) {
+    this.expression = expression;
+    this.ops = ops;
+    this.args1 = args1;
+    this.args2 = args2;
+    this.classes = classes;
+    this.maxSteps = maxSteps;
+  }
+
+  @Override
+  public boolean find(CharSequence input) {
+    return run(input, false);
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+    return run(input, true);
+  }
+
+  private boolean run(CharSequence input, boolean anchored) {
+    final int length = input.length();
+    final Run run = new Run(input);
+
+    ThreadList current = new ThreadList(ops.length);
+    ThreadList next = new ThreadList(ops.length);
+    run.add(current, 0, 0);
+
+    int pos = 0;
+    while (true) {
+      if (current.contains(ops.length - 1) && (!anchored || pos == length)) {
+        return true;
+      }
+      if (pos == length || (anchored && current.size == 0)) {
+        return false;
+      }
+
+      int cp = Character.codePointAt(input, pos);
+      int nextPos = pos + Character.charCount(cp);
+
+      next.clear();
+      for (int i = 0; i < current.size; i++) {
+        int pc = current.dense[i];
+        run.step();
+        if (ops[pc] == CHAR && classes[args1[pc]].matches(cp)) {
+          run.add(next, pc + 1, nextPos);
+        }
+      }
+      if (!anchored) {
+        // Start a new attempt at the next position
+        run.add(next, 0, nextPos);
+      }
+
+      ThreadList tmp = current;
+      current = next;
+      next = tmp;
+      pos = nextPos;
+    }
+  }
+
+  /**
+   * State of a single match.
+   */
+  private class Run {
+    private final CharSequence input;
+    private final int[] stack = new int[ops.length * 2 + 1];
+    private long steps;
+
+    Run(CharSequence input) {
+      this.input = input;
+    }
+
+    void step() {
+      if (maxSteps > 0 && ++steps > maxSteps) {
+        throw new RegexBudgetException(expression, maxSteps);
+      }
+    }
+
+    /**
+     * Add the thread and follow the non-consuming operations.
+     */
+    void add(ThreadList list, int startPc, int pos) {
+      int top = 0;
+      stack[top++] = startPc;
+
+      while (top != 0) {
+        int pc = stack[--top];
+        if (list.contains(pc)) {
+          continue;
+        }
+        step();
+        list.add(pc);
+
+        switch (ops[pc]) {
+          case JUMP:
+            stack[top++] = args1[pc];
+            break;
+          case SPLIT:
+            // Pushed in reverse order to keep priority, unused for boolean matching but cheap
+            stack[top++] = args2[pc];
+            stack[top++] = args1[pc];
+            break;
+          case ASSERT:
+            if (check(args1[pc], pos)) {
+              stack[top++] = pc + 1;
+            }
+            break;
+          default:
+            // CHAR & MATCH wait for the next character
+            break;
+        }
+      }
+    }
+
+    private boolean check(int kind, int pos) {
+      int length = input.length();
+
+      switch (kind) {
+        case BEGIN:
+          return pos == 0;
+        case END:
+          return pos == length;
+        case END_LINE:
+          return pos == length
+            || (pos == length - 1 && isLineTerminator(input.charAt(pos)))
+            || (pos == length - 2 && input.charAt(pos) == '\r' && input.charAt(pos + 1) == '\n');
+        case WORD_BOUNDARY:
+          return isWordBoundary(pos);
+        case NOT_WORD_BOUNDARY:
+          return !isWordBoundary(pos);
+        default:
+          return false;
+      }
+    }
+
+    private boolean isWordBoundary(int pos) {
+      boolean before = pos > 0 && RegexCompiler.WORD.matches(input.charAt(pos - 1));
+      boolean after = pos < input.length() && RegexCompiler.WORD.matches(input.charAt(pos));
+      return before != after;
+    }
+
+    private boolean isLineTerminator(char c) {
+      return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+    }
+  }
+
+  /**
+   * Sparse set of program counters, cleared in constant time.
+   */
+  private static class ThreadList {
+    private final int[] dense;
+    private final int[] sparse;
+    private int size;
+
+    ThreadList(int capacity) {
+      dense = new int[capacity];
+      sparse = new int[capacity];
+    }
+
+    boolean contains(int pc) {
+      int index = sparse[pc];
+      return index < size && dense[index] == pc;
+    }
+
+    void add(int pc) {
+      sparse[pc] = size;
+      dense[size++] = pc;
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+}
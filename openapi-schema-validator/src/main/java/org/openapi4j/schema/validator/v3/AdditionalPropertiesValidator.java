@@ -8,12 +8,14 @@ import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.regex.Regex;
+import org.openapi4j.schema.validator.regex.RegexBudgetException;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ADDITIONALPROPERTIES;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -31,7 +33,7 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ADDITIONALPROPERTIES, true);
 
   private final Set<String> allowedProperties;
-  private final Set<Pattern> allowedPatternProperties;
+  private final Map<String, Regex> allowedPatternProperties;
   private final Boolean additionalPropertiesAllowed;
   private final SchemaValidator additionalPropertiesSchema;
 
@@ -55,7 +57,7 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
       allowedProperties = setupAllowedProperties(propertiesNode);
 
       JsonNode patternPropertiesNode = schemaParentNode.get(OAI3SchemaKeywords.PATTERNPROPERTIES);
-      allowedPatternProperties = setupAllowedPatternProperties(patternPropertiesNode);
+      allowedPatternProperties = setupAllowedPatternProperties(context, patternPropertiesNode);
     }
   }
 
@@ -67,7 +69,7 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
       for (Iterator<String> it = valueNode.fieldNames(); it.hasNext(); ) {
         String fieldName = it.next();
 
-        if (!checkAgainstPatternProperties(fieldName) && !checkAgainstProperties(fieldName)) {
+        if (!checkAgainstPatternProperties(fieldName, validation) && !checkAgainstProperties(fieldName)) {
           if (additionalPropertiesSchema != null) {
             additionalPropertiesSchema.validateWithContext(valueNode.get(fieldName), validation);
           } else {
@@ -80,6 +82,28 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return false;
   }
 
+  /**
+   * Check if the given field is an additional property, i.e. when the value is read from a stream.
+   *
+   * @param fieldName  The field name.
+   * @param validation The validation data.
+   * @return {@code true} if the field is not allowed as is, the field must be validated against
+   * {@link #getAdditionalPropertiesSchema()} or rejected with {@link #addError(String, ValidationData)}.
+   */
+  boolean isAdditionalProperty(final String fieldName, final ValidationData<?> validation) {
+    return !Boolean.TRUE.equals(additionalPropertiesAllowed)
+      && !checkAgainstPatternProperties(fieldName, validation)
+      && !checkAgainstProperties(fieldName);
+  }
+
+  SchemaValidator getAdditionalPropertiesSchema() {
+    return additionalPropertiesSchema;
+  }
+
+  void addError(final String fieldName, final ValidationData<?> validation) {
+    validation.add(CRUMB_INFO, ERR, fieldName);
+  }
+
   private Set<String> setupAllowedProperties(JsonNode propertiesNode) {
     Set<String> values;
 
@@ -95,13 +119,14 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return values;
   }
 
-  private Set<Pattern> setupAllowedPatternProperties(JsonNode patternPropertiesNode) {
-    Set<Pattern> values;
+  private Map<String, Regex> setupAllowedPatternProperties(ValidationContext<OAI3> context, JsonNode patternPropertiesNode) {
+    Map<String, Regex> values;
 
     if (patternPropertiesNode != null) {
-      values = new HashSet<>();
+      values = new HashMap<>();
       for (Iterator<String> it = patternPropertiesNode.fieldNames(); it.hasNext(); ) {
-        values.add(Pattern.compile(it.next()));
+        String expression = it.next();
+        values.put(expression, context.getRegexEngine().compile(expression));
       }
     } else {
       values = null;
@@ -110,11 +135,16 @@ class AdditionalPropertiesValidator extends BaseJsonValidator<OAI3> {
     return values;
   }
 
-  private boolean checkAgainstPatternProperties(final String fieldName) {
+  private boolean checkAgainstPatternProperties(final String fieldName, final ValidationData<?> validation) {
     if (allowedPatternProperties != null) {
-      for (Pattern pattern : allowedPatternProperties) {
-        Matcher m = pattern.matcher(fieldName);
-        if (m.find()) {
+      for (Map.Entry<String, Regex> entry : allowedPatternProperties.entrySet()) {
+        try {
+          if (entry.getValue().find(fieldName)) {
+            return true;
+          }
+        } catch (RegexBudgetException ex) {
+          // Reported once, the field is not checked further
+          validation.add(CRUMB_INFO, PatternValidator.BUDGET_ERR, fieldName, entry.getKey());
           return true;
         }
       }
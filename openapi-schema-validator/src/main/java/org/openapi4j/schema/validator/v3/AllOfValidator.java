@@ -38,7 +38,7 @@ class AllOfValidator extends DiscriminatorValidator {
     final List<ValidationResults> validResults = new ArrayList<>();
 
     for (SchemaValidator validator : validators) {
-      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
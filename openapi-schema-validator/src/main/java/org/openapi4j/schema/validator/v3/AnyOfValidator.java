@@ -35,15 +35,21 @@ class AnyOfValidator extends DiscriminatorValidator {
       return;
     }
 
+    if (branchSelector != null && validatePreSelected(valueNode, validation)) {
+      return;
+    }
+
     List<ValidationResults> resultsOnError = new ArrayList<>();
 
     for (SchemaValidator validator : validators) {
-      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
         // Append potential results from sub validation (INFO / WARN)
-        validation.add(validation.results().crumbs(), schemaValidation.results());
+        if (schemaValidation.results().size() != 0) {
+          validation.add(validation.results().crumbs(), schemaValidation.results());
+        }
         return;
       } else {
         resultsOnError.add(schemaValidation.results());
@@ -55,4 +61,30 @@ class AnyOfValidator extends DiscriminatorValidator {
       validation.add(validation.results().crumbs(), results.items(ERROR));
     }
   }
+
+  /**
+   * Validate against the pre-selected branches only, other branches fail for sure.
+   *
+   * @return {@code false} if no branch is valid, the full validation must be run to report errors.
+   */
+  private boolean validatePreSelected(final JsonNode valueNode, final ValidationData<?> validation) {
+    for (int branch : branchSelector.candidates(valueNode)) {
+      if (branchSelector.excludes(branch, valueNode)) {
+        continue;
+      }
+
+      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
+      validators.get(branch).validate(valueNode, schemaValidation);
+
+      if (schemaValidation.isValid()) {
+        // Append potential results from sub validation (INFO / WARN)
+        if (schemaValidation.results().size() != 0) {
+          validation.add(validation.results().crumbs(), schemaValidation.results());
+        }
+        return true;
+      }
+    }
+
+    return false;
+  }
 }
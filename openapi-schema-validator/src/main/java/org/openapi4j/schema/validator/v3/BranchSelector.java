@@ -0,0 +1,245 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.model.reference.Reference;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.schema.validator.ValidationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.openapi4j.core.model.reference.Reference.ABS_REF_FIELD;
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
+
+/**
+ * Pre-selection of oneOf/anyOf branches without discriminator.
+ * <p/>
+ * Branch schemas are analysed for features which make a value fail for sure:
+ * a differing type, a missing required property or a property value differing from a single value enum.
+ * Branches are never excluded when the related keyword is overridden by an additional validator.
+ * <p/>
+ * When a property is constrained by a single value enum in all the branches (i.e. a type tag),
+ * candidates are directly looked up from the property value.
+ */
+final class BranchSelector {
+  private static final int MAX_REF_DEPTH = 8;
+  private static final int[] NO_BRANCH = new int[0];
+
+  private final Branch[] branches;
+  private final int[] allBranches;
+  private final String tagName;
+  private final Map<String, int[]> tagIndex;
+
+  private BranchSelector(Branch[] branches, String tagName, Map<String, int[]> tagIndex) {
+    this.branches = branches;
+    this.tagName = tagName;
+    this.tagIndex = tagIndex;
+
+    allBranches = new int[branches.length];
+    for (int i = 0; i < branches.length; i++) {
+      allBranches[i] = i;
+    }
+  }
+
+  /**
+   * Analyse the given branch schemas.
+   *
+   * @return The selector or {@code null} if branches can't be distinguished.
+   */
+  static BranchSelector create(final ValidationContext<OAI3> context, final JsonNode schemaNode) {
+    if (!schemaNode.isArray() || schemaNode.size() < 2) {
+      return null;
+    }
+
+    boolean useType = context.getValidators().get(TYPE) == null;
+    boolean useRequired = context.getValidators().get(REQUIRED) == null;
+    boolean useTags = context.getValidators().get(PROPERTIES) == null && context.getValidators().get(ENUM) == null;
+
+    Branch[] branches = new Branch[schemaNode.size()];
+    boolean hasFeature = false;
+    for (int i = 0; i < branches.length; i++) {
+      branches[i] = new Branch();
+      if (useType || useRequired || useTags) {
+        branches[i].read(context, schemaNode.get(i), useType, useRequired, useTags, 0);
+      }
+      hasFeature |= branches[i].hasFeature();
+    }
+
+    if (!hasFeature) {
+      return null;
+    }
+
+    // Property tagged in all the branches
+    String tagName = null;
+    Map<String, int[]> tagIndex = null;
+    for (String name : branches[0].tags.keySet()) {
+      if (isTaggedByAll(branches, name)) {
+        tagName = name;
+        tagIndex = indexTag(branches, name);
+        break;
+      }
+    }
+
+    return new BranchSelector(branches, tagName, tagIndex);
+  }
+
+  /**
+   * Get the candidate branches, in declaration order.
+   * Candidates still need to be checked with {@link #excludes(int, JsonNode)}.
+   */
+  int[] candidates(final JsonNode valueNode) {
+    if (tagIndex != null && valueNode.isObject()) {
+      JsonNode tagNode = valueNode.get(tagName);
+      if (tagNode != null && tagNode.isTextual()) {
+        int[] candidates = tagIndex.get(tagNode.textValue());
+        return (candidates != null) ? candidates : NO_BRANCH;
+      }
+    }
+
+    return allBranches;
+  }
+
+  /**
+   * @return {@code true} if the given value fails the branch for sure.
+   */
+  boolean excludes(final int branch, final JsonNode valueNode) {
+    return branches[branch].excludes(valueNode);
+  }
+
+  private static boolean isTaggedByAll(Branch[] branches, String name) {
+    for (Branch branch : branches) {
+      if (!branch.tags.containsKey(name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<String, int[]> indexTag(Branch[] branches, String name) {
+    Map<String, List<Integer>> lists = new HashMap<>();
+    for (int i = 0; i < branches.length; i++) {
+      lists.computeIfAbsent(branches[i].tags.get(name), k -> new ArrayList<>()).add(i);
+    }
+
+    Map<String, int[]> index = new HashMap<>();
+    for (Map.Entry<String, List<Integer>> entry : lists.entrySet()) {
+      index.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+    }
+    return index;
+  }
+
+  private static class Branch {
+    private String type;
+    private final List<String> required = new ArrayList<>();
+    // Property name to the single allowed textual value
+    private final Map<String, String> tags = new HashMap<>();
+
+    void read(ValidationContext<OAI3> context, JsonNode schemaNode, boolean useType, boolean useRequired, boolean useTags, int depth) {
+      if (!schemaNode.isObject()) {
+        return;
+      }
+
+      JsonNode typeNode = schemaNode.get(TYPE);
+      if (useType && type == null && typeNode != null && typeNode.isTextual()) {
+        type = typeNode.textValue();
+      }
+
+      JsonNode requiredNode = schemaNode.get(REQUIRED);
+      if (useRequired && requiredNode != null && requiredNode.isArray()) {
+        for (JsonNode name : requiredNode) {
+          required.add(name.asText());
+        }
+      }
+
+      JsonNode propertiesNode = schemaNode.get(PROPERTIES);
+      if (useTags && propertiesNode != null && propertiesNode.isObject()) {
+        for (Iterator<Map.Entry<String, JsonNode>> it = propertiesNode.fields(); it.hasNext(); ) {
+          Map.Entry<String, JsonNode> property = it.next();
+          JsonNode enumNode = resolve(context, property.getValue(), depth).get(ENUM);
+          if (enumNode != null && enumNode.isArray() && enumNode.size() == 1 && enumNode.get(0).isTextual()) {
+            tags.putIfAbsent(property.getKey(), enumNode.get(0).textValue());
+          }
+        }
+      }
+
+      // Referenced schema applies too
+      JsonNode refContent = getRefContent(context, schemaNode);
+      if (refContent != null && depth < MAX_REF_DEPTH) {
+        read(context, refContent, useType, useRequired, useTags, depth + 1);
+      }
+    }
+
+    boolean hasFeature() {
+      return type != null || !required.isEmpty() || !tags.isEmpty();
+    }
+
+    boolean excludes(JsonNode valueNode) {
+      if (type != null && !isTypeCompatible(valueNode)) {
+        return true;
+      }
+
+      if (!valueNode.isObject()) {
+        return false;
+      }
+
+      for (String name : required) {
+        if (valueNode.get(name) == null) {
+          return true;
+        }
+      }
+
+      for (Map.Entry<String, String> tag : tags.entrySet()) {
+        JsonNode propertyNode = valueNode.get(tag.getKey());
+        if (propertyNode != null && propertyNode.isTextual() && !propertyNode.textValue().equals(tag.getValue())) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    // Same as TypeValidator, values with unknown type are never excluded
+    private boolean isTypeCompatible(JsonNode valueNode) {
+      if (valueNode.isObject()) {
+        return TYPE_OBJECT.equals(type);
+      } else if (valueNode.isArray()) {
+        return TYPE_ARRAY.equals(type);
+      } else if (valueNode.isTextual()) {
+        return TYPE_STRING.equals(type);
+      } else if (valueNode.isIntegralNumber()) {
+        return TYPE_INTEGER.equals(type) || TYPE_NUMBER.equals(type);
+      } else if (valueNode.isNumber()) {
+        return TYPE_NUMBER.equals(type);
+      } else if (valueNode.isBoolean()) {
+        return TYPE_BOOLEAN.equals(type);
+      }
+      return true;
+    }
+
+    private static JsonNode resolve(ValidationContext<OAI3> context, JsonNode schemaNode, int depth) {
+      JsonNode node = schemaNode;
+      for (int i = depth; i < MAX_REF_DEPTH; i++) {
+        JsonNode refContent = getRefContent(context, node);
+        if (refContent == null) {
+          break;
+        }
+        node = refContent;
+      }
+      return node;
+    }
+
+    private static JsonNode getRefContent(ValidationContext<OAI3> context, JsonNode schemaNode) {
+      // Prefer absolute reference value
+      JsonNode refNode = schemaNode.has(ABS_REF_FIELD) ? schemaNode.get(ABS_REF_FIELD) : schemaNode.get($REF);
+      if (refNode == null || !refNode.isTextual() || context.getContext() == null) {
+        return null;
+      }
+
+      Reference reference = context.getContext().getReferenceRegistry().getRef(refNode.textValue());
+      return (reference != null) ? reference.getContent() : null;
+    }
+  }
+}
@@ -34,6 +34,8 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
   private static final String SCHEMAS_PATH = "#/components/schemas/";
 
   final List<SchemaValidator> validators = new ArrayList<>();
+  // Pre-selection of anyOf/oneOf branches when there's no discriminator
+  BranchSelector branchSelector;
   private final String arrayType;
   private JsonNode discriminatorNode;
   private String discriminatorPropertyName;
@@ -164,6 +166,10 @@ abstract class DiscriminatorValidator extends BaseJsonValidator<OAI3> {
     for (JsonNode node : schemaNode) {
       validators.add(new SchemaValidator(context, crumbInfo, node, schemaParentNode, parentSchema));
     }
+
+    if (discriminatorNode == null) {
+      branchSelector = BranchSelector.create(context, schemaNode);
+    }
   }
 
   private void setupAllOfDiscriminatorSchemas(final JsonNode schemaNode,
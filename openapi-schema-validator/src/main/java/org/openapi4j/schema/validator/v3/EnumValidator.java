@@ -6,10 +6,16 @@ import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.StreamedBinaryNode;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ENUM;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -26,30 +32,69 @@ class EnumValidator extends BaseJsonValidator<OAI3> {
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ENUM, true);
 
-  private final JsonNode schemaNode;
   private static final NodeComparator NODE_COMPARATOR = new NodeComparator();
 
+  private final boolean isArray;
+  // Hash index of textual values
+  private final Set<String> textValues = new HashSet<>();
+  // Sorted values of numeric nodes, compared as doubles like NodeComparator
+  private final double[] numericValues;
+  // Other values (objects, arrays, booleans, null), compared one by one
+  private final List<JsonNode> otherValues = new ArrayList<>();
+
   EnumValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
     super(context, schemaNode, schemaParentNode, parentSchema);
 
-    this.schemaNode = schemaNode;
-  }
+    isArray = schemaNode.isArray();
 
-  @Override
-  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (schemaNode.isArray()) {
+    double[] numbers = new double[schemaNode.size()];
+    int numberCount = 0;
+    if (isArray) {
       for (JsonNode enumNode : schemaNode) {
-        if (enumNode.equals(NODE_COMPARATOR, valueNode)) {
-          return false;
+        if (enumNode.isTextual()) {
+          textValues.add(enumNode.textValue());
+        } else if (enumNode instanceof NumericNode) {
+          numbers[numberCount++] = enumNode.asDouble();
+        } else {
+          otherValues.add(enumNode);
         }
       }
+    }
 
+    numericValues = Arrays.copyOf(numbers, numberCount);
+    Arrays.sort(numericValues);
+  }
+
+  @Override
+  public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
+    if (!isArray || valueNode instanceof StreamedBinaryNode) {
+      return false;
+    }
+
+    if (!isDefined(valueNode)) {
       validation.add(CRUMB_INFO, ERR, valueNode.asText());
     }
 
     return false;
   }
 
+  private boolean isDefined(final JsonNode valueNode) {
+    if (valueNode.isTextual()) {
+      return textValues.contains(valueNode.textValue());
+    } else if (valueNode instanceof NumericNode) {
+      // Same equality as Double.compareTo
+      return Arrays.binarySearch(numericValues, valueNode.asDouble()) >= 0;
+    }
+
+    for (JsonNode enumNode : otherValues) {
+      if (enumNode.equals(NODE_COMPARATOR, valueNode)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private static class NodeComparator implements Comparator<JsonNode> {
     @Override
     public int compare(JsonNode n1, JsonNode n2) {
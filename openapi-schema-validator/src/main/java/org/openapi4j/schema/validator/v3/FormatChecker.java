@@ -0,0 +1,24 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Represents a check of the format keyword.
+ * <p/>
+ * The checker is resolved once when the schema is compiled and called for each validated value.
+ * Null values are never given to the checker.
+ *
+ * @see org.openapi4j.schema.validator.ValidationContext#addFormatChecker(String, FormatChecker)
+ */
+@FunctionalInterface
+public interface FormatChecker {
+  /**
+   * Check the given value against the format.
+   * <p/>
+   * Formats related to strings should consider values of other types as valid.
+   *
+   * @param valueNode The value to check.
+   * @return {@code true} if the value matches the format.
+   */
+  boolean check(final JsonNode valueNode);
+}
@@ -0,0 +1,428 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
+
+/**
+ * Built-in format checkers.
+ * <p/>
+ * String formats are checked by single pass scanners on the character sequence.
+ */
+final class FormatCheckers {
+  private static final Map<String, FormatChecker> CHECKERS = new HashMap<>();
+
+  static {
+    CHECKERS.put(FORMAT_INT32, JsonNode::isInt);
+    CHECKERS.put(FORMAT_INT64, node -> node.isInt() || node.isLong());
+    CHECKERS.put(FORMAT_FLOAT, node -> node.isInt() || node.isFloatingPointNumber());
+    CHECKERS.put(FORMAT_DOUBLE, JsonNode::isNumber);
+    CHECKERS.put(FORMAT_BINARY, JsonNode::isTextual);
+    CHECKERS.put(FORMAT_PASSWORD, JsonNode::isTextual);
+    CHECKERS.put(FORMAT_BYTE, textual(FormatCheckers::isBase64));
+    CHECKERS.put(FORMAT_DATE, textual(FormatCheckers::isDate));
+    CHECKERS.put(FORMAT_DATE_TIME, textual(FormatCheckers::isDateTime));
+    CHECKERS.put(FORMAT_EMAIL, textual(FormatCheckers::isEmail));
+    CHECKERS.put(FORMAT_HOSTNAME, textual(FormatCheckers::isHostname));
+    CHECKERS.put(FORMAT_IPV4, textual(FormatCheckers::isIpv4));
+    CHECKERS.put(FORMAT_IPV6, textual(FormatCheckers::isIpv6));
+    CHECKERS.put(FORMAT_UUID, textual(FormatCheckers::isUuid));
+    CHECKERS.put(FORMAT_URI, textual(FormatCheckers::isUri));
+    CHECKERS.put(FORMAT_URIREF, textual(FormatCheckers::isUri));
+    CHECKERS.put(FORMAT_URI_REFERENCE, textual(FormatCheckers::isUri));
+  }
+
+  private FormatCheckers() {}
+
+  /**
+   * Get the built-in checker of the given format.
+   *
+   * @param format The format name.
+   * @return The checker or {@code null} if the format is unknown.
+   */
+  static FormatChecker get(String format) {
+    return CHECKERS.get(format);
+  }
+
+  private static FormatChecker textual(Predicate<CharSequence> predicate) {
+    return node -> !node.isTextual() || predicate.test(node.textValue());
+  }
+
+  // RFC 4648
+  static boolean isBase64(CharSequence value) {
+    int length = value.length();
+    if (length == 0 || length % 4 != 0) {
+      return false;
+    }
+
+    // Padding is only allowed for the 2 last characters
+    int padding = 0;
+    if (value.charAt(length - 1) == '=') {
+      padding = value.charAt(length - 2) == '=' ? 2 : 1;
+    }
+
+    for (int i = 0; i < length - padding; i++) {
+      char c = value.charAt(i);
+      if (!isAlphaNum(c) && c != '+' && c != '/') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // RFC 3339 full-date
+  static boolean isDate(CharSequence value) {
+    return value.length() == 10 && isDate(value, 0);
+  }
+
+  // RFC 3339 date-time, space is also allowed as separator
+  static boolean isDateTime(CharSequence value) {
+    int length = value.length();
+    // yyyy-mm-ddThh:mm:ssZ
+    if (length < 20 || !isDate(value, 0)) {
+      return false;
+    }
+
+    char c = value.charAt(10);
+    if (c != 'T' && c != 't' && c != ' ') {
+      return false;
+    }
+    if (!isTime(value, 11)) {
+      return false;
+    }
+
+    // Optional fraction
+    int i = 19;
+    if (value.charAt(i) == '.') {
+      int start = ++i;
+      while (i < length && isDigit(value.charAt(i))) {
+        i++;
+      }
+      if (i == start || i == length) {
+        return false;
+      }
+    }
+
+    // Offset
+    c = value.charAt(i);
+    if (c == 'Z' || c == 'z') {
+      return i + 1 == length;
+    }
+
+    if ((c != '+' && c != '-') || i + 6 != length || value.charAt(i + 3) != ':') {
+      return false;
+    }
+
+    int hourOffset = readNumber(value, i + 1, 2);
+    int minuteOffset = readNumber(value, i + 4, 2);
+
+    return hourOffset != -1 && hourOffset <= 23
+      && minuteOffset != -1 && minuteOffset <= 59;
+  }
+
+  // Any non-whitespace characters around an @
+  static boolean isEmail(CharSequence value) {
+    int length = value.length();
+    boolean hasSeparator = false;
+
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (isWhitespace(c)) {
+        return false;
+      }
+      if (c == '@' && i != 0 && i != length - 1) {
+        hasSeparator = true;
+      }
+    }
+
+    return hasSeparator;
+  }
+
+  // RFC 1123
+  static boolean isHostname(CharSequence value) {
+    int length = value.length();
+    if (length == 0 || length > 253) {
+      return false;
+    }
+
+    int labelStart = 0;
+    for (int i = 0; i <= length; i++) {
+      if (i == length || value.charAt(i) == '.') {
+        int labelLength = i - labelStart;
+        if (labelLength == 0
+          || labelLength > 63
+          || value.charAt(labelStart) == '-'
+          || value.charAt(i - 1) == '-') {
+          return false;
+        }
+        labelStart = i + 1;
+      } else {
+        char c = value.charAt(i);
+        if (!isAlphaNum(c) && c != '-') {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  // Dotted quad, leading zeros are allowed
+  static boolean isIpv4(CharSequence value) {
+    return isIpv4(value, 0, value.length());
+  }
+
+  // RFC 4291 text representation, with optional zone index
+  static boolean isIpv6(CharSequence value) {
+    int start = 0;
+    int end = value.length();
+
+    // Surrounding whitespaces are allowed
+    while (start < end && isWhitespace(value.charAt(start))) {
+      start++;
+    }
+    while (end > start && isWhitespace(value.charAt(end - 1))) {
+      end--;
+    }
+
+    // Zone index
+    for (int i = start; i < end; i++) {
+      if (value.charAt(i) == '%') {
+        if (i == end - 1) {
+          return false;
+        }
+        end = i;
+        break;
+      }
+    }
+
+    if (end - start < 2) {
+      return false;
+    }
+
+    int groups = 0;
+    boolean compressed = false;
+    int i = start;
+
+    if (value.charAt(i) == ':') {
+      if (value.charAt(i + 1) != ':') {
+        return false;
+      }
+      compressed = true;
+      i += 2;
+    }
+
+    while (i < end) {
+      // Hexadecimal group or trailing IPv4
+      int groupStart = i;
+      while (i < end && isHexDigit(value.charAt(i))) {
+        i++;
+      }
+
+      if (i < end && value.charAt(i) == '.') {
+        // Takes 2 groups
+        if (!isIpv4(value, groupStart, end)) {
+          return false;
+        }
+        groups += 2;
+        break;
+      }
+
+      int groupLength = i - groupStart;
+      if (groupLength == 0 || groupLength > 4) {
+        return false;
+      }
+      groups++;
+
+      if (i == end) {
+        break;
+      }
+      if (value.charAt(i) != ':') {
+        return false;
+      }
+
+      // Separator
+      i++;
+      if (i == end) {
+        return false;
+      }
+      if (value.charAt(i) == ':') {
+        if (compressed) {
+          return false;
+        }
+        compressed = true;
+        i++;
+      }
+    }
+
+    return compressed ? groups <= 7 : groups == 8;
+  }
+
+  // 8-4-4-4-12 hexadecimal digits
+  static boolean isUuid(CharSequence value) {
+    if (value.length() != 36) {
+      return false;
+    }
+
+    for (int i = 0; i < 36; i++) {
+      char c = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if (!isHexDigit(c)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // Scheme or network-path reference followed by non-whitespace characters
+  static boolean isUri(CharSequence value) {
+    int length = value.length();
+    int i;
+
+    if (length >= 2 && value.charAt(0) == '/' && value.charAt(1) == '/') {
+      i = 2;
+    } else {
+      if (length == 0 || !isAlpha(value.charAt(0))) {
+        return false;
+      }
+      i = 1;
+      while (i < length && isSchemeChar(value.charAt(i))) {
+        i++;
+      }
+      if (i == length || value.charAt(i) != ':') {
+        return false;
+      }
+    }
+
+    for (; i < length; i++) {
+      if (isWhitespace(value.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isDate(CharSequence value, int offset) {
+    if (value.charAt(offset + 4) != '-' || value.charAt(offset + 7) != '-') {
+      return false;
+    }
+
+    int year = readNumber(value, offset, 4);
+    int month = readNumber(value, offset + 5, 2);
+    int day = readNumber(value, offset + 8, 2);
+
+    return year != -1
+      && month >= 1 && month <= 12
+      && day >= 1 && day <= daysInMonth(year, month);
+  }
+
+  // hh:mm:ss
+  private static boolean isTime(CharSequence value, int offset) {
+    if (value.charAt(offset + 2) != ':' || value.charAt(offset + 5) != ':') {
+      return false;
+    }
+
+    int hour = readNumber(value, offset, 2);
+    int minute = readNumber(value, offset + 3, 2);
+    int second = readNumber(value, offset + 6, 2);
+
+    return hour != -1 && hour <= 23
+      && minute != -1 && minute <= 59
+      && second != -1 && second <= 60; // leap second
+  }
+
+  private static boolean isIpv4(CharSequence value, int start, int end) {
+    int octets = 0;
+    int i = start;
+
+    while (i < end) {
+      int octetStart = i;
+      int octet = 0;
+      while (i < end && isDigit(value.charAt(i))) {
+        octet = octet * 10 + (value.charAt(i) - '0');
+        i++;
+      }
+
+      int octetLength = i - octetStart;
+      if (octetLength == 0 || octetLength > 3 || octet > 255) {
+        return false;
+      }
+      octets++;
+
+      if (i < end) {
+        if (value.charAt(i) != '.' || i == end - 1) {
+          return false;
+        }
+        i++;
+      }
+    }
+
+    return octets == 4;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Read a fixed length positive number.
+   *
+   * @return The number or {@code -1} if a character is not a digit.
+   */
+  private static int readNumber(CharSequence value, int offset, int length) {
+    int number = 0;
+    for (int i = offset; i < offset + length; i++) {
+      char c = value.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isAlpha(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAlphaNum(char c) {
+    return isAlpha(c) || isDigit(c);
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isSchemeChar(char c) {
+    return isAlphaNum(c) || c == '+' || c == '-' || c == '.';
+  }
+
+  // Same as regular expression \s
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+}
@@ -7,7 +7,11 @@ import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ITEMS;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_MIN_ITEMS;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_VALIDATION;
 
 /**
  * items keyword validator.
@@ -18,6 +22,16 @@ import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.ITEMS;
  */
 class ItemsValidator extends BaseJsonValidator<OAI3> {
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(ITEMS, true);
+  private static final long DEFAULT_PARALLEL_MIN_ITEMS = 1000;
+  // Shared crumbs of the first indexes to avoid allocations while validating arrays
+  private static final ValidationResults.CrumbInfo[] INDEX_CRUMBS = new ValidationResults.CrumbInfo[256];
+
+  static {
+    for (int i = 0; i < INDEX_CRUMBS.length; i++) {
+      INDEX_CRUMBS[i] = new ValidationResults.CrumbInfo(i);
+    }
+  }
+
   private final SchemaValidator schema;
 
   ItemsValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
@@ -32,18 +46,70 @@ class ItemsValidator extends BaseJsonValidator<OAI3> {
       return false;
     }
 
-    for (int idx = 0; idx < valueNode.size(); ++idx) {
+    if (context.getOption(PARALLEL_VALIDATION) && valueNode.size() >= getParallelMinItems()) {
+      ParallelItems.validate(this, context.getForkJoinPool(), valueNode, validation);
+    } else {
+      validate(valueNode, 0, valueNode.size(), validation, null);
+    }
+
+    return false;
+  }
+
+  /**
+   * Validate the items of the given range.
+   *
+   * @param failIndex The lowest index of failing items with fast fail, items after it are skipped. Can be {@code null}.
+   * Validation stops at the first failing item with fast fail or when the maximum number of errors is reached.
+   *
+   * @return The index of the first failing item with fast fail, -1 otherwise.
+   */
+  int validate(final JsonNode valueNode,
+               final int from,
+               final int to,
+               final ValidationData<?> validation,
+               final AtomicInteger failIndex) {
+
+    final boolean isFastFail = context.isFastFail();
+
+    for (int idx = from; idx < to; ++idx) {
+      if (failIndex != null && failIndex.get() < idx) {
+        break;
+      }
+
       JsonNode itemNode = valueNode.get(idx);
 
-      validation.results().withCrumb(
-        new ValidationResults.CrumbInfo(Integer.toString(idx), false),
-        () -> schema.validate(itemNode, validation));
+      ValidationResults.CrumbInfo crumbInfo = indexCrumb(idx);
+
+      validation.results().pushCrumb(crumbInfo);
+      try {
+        schema.validate(itemNode, validation);
+      } finally {
+        validation.results().popCrumb(crumbInfo);
+      }
 
-      if (context.isFastFail() && !validation.isValid()) {
+      if (isFastFail && !validation.isValid()) {
+        return idx;
+      }
+      if (validation.isMaxErrorsReached()) {
         break;
       }
     }
 
-    return false;
+    return -1;
+  }
+
+  private long getParallelMinItems() {
+    long minItems = context.getLimit(PARALLEL_MIN_ITEMS);
+    return (minItems > 0) ? minItems : DEFAULT_PARALLEL_MIN_ITEMS;
+  }
+
+  static ValidationResults.CrumbInfo indexCrumb(final int index) {
+    return (index < INDEX_CRUMBS.length)
+      ? INDEX_CRUMBS[index]
+      : new ValidationResults.CrumbInfo(index);
+  }
+
+  SchemaValidator getSchema() {
+    return schema;
   }
 }
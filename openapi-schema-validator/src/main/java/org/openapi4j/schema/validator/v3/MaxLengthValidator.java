@@ -5,6 +5,7 @@ import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.StreamedBinaryNode;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
@@ -40,8 +41,13 @@ class MaxLengthValidator extends BaseJsonValidator<OAI3> {
       return false;
     }
 
-    String value = valueNode.textValue();
-    int length = value.codePointCount(0, value.length());
+    long length;
+    if (valueNode instanceof StreamedBinaryNode) {
+      length = ((StreamedBinaryNode) valueNode).byteCount();
+    } else {
+      String value = valueNode.textValue();
+      length = value.codePointCount(0, value.length());
+    }
     if (length > maxLength) {
       validation.add(CRUMB_INFO, ERR, maxLength, length);
     }
@@ -40,10 +40,17 @@ class MaxPropertiesValidator extends BaseJsonValidator<OAI3> {
       return false;
     }
 
-    if (valueNode.size() > max) {
-      validation.add(CRUMB_INFO, ERR, max, valueNode.size());
-    }
+    validateSize(valueNode.size(), validation);
 
     return false;
   }
+
+  /**
+   * Validate the given size, i.e. when the value is read from a stream.
+   */
+  void validateSize(final int size, final ValidationData<?> validation) {
+    if (max != null && size > max) {
+      validation.add(CRUMB_INFO, ERR, max, size);
+    }
+  }
 }
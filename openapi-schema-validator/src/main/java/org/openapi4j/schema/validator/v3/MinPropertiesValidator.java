@@ -40,10 +40,17 @@ class MinPropertiesValidator extends BaseJsonValidator<OAI3> {
       return false;
     }
 
-    if (valueNode.size() < min) {
-      validation.add(CRUMB_INFO, ERR, min, valueNode.size());
-    }
+    validateSize(valueNode.size(), validation);
 
     return false;
   }
+
+  /**
+   * Validate the given size, i.e. when the value is read from a stream.
+   */
+  void validateSize(final int size, final ValidationData<?> validation) {
+    if (min != null && size < min) {
+      validation.add(CRUMB_INFO, ERR, min, size);
+    }
+  }
 }
@@ -0,0 +1,118 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Structural fingerprint and equality of JSON values.
+ * <p/>
+ * Numbers are compared by their mathematical value (i.e. 1 and 1.0 are equal)
+ * and object fields regardless of their order.
+ */
+final class NodeFingerprint {
+  private static final long NULL_SEED = 0x9E3779B97F4A7C15L;
+  private static final long TRUE_SEED = 0xC2B2AE3D27D4EB4FL;
+  private static final long FALSE_SEED = 0x165667B19E3779F9L;
+  private static final long NUMBER_SEED = 0x27D4EB2F165667C5L;
+  private static final long STRING_SEED = 0x85EBCA77C2B2AE63L;
+  private static final long ARRAY_SEED = 0xFF51AFD7ED558CCDL;
+  private static final long OBJECT_SEED = 0xC4CEB9FE1A85EC53L;
+  private static final long OTHER_SEED = 0x94D049BB133111EBL;
+
+  private NodeFingerprint() {}
+
+  /**
+   * Compute the fingerprint of the given value.
+   * Equal values (see {@link #equal(JsonNode, JsonNode)}) have the same fingerprint.
+   */
+  static long of(final JsonNode node) {
+    switch (node.getNodeType()) {
+      case NULL:
+        return NULL_SEED;
+      case BOOLEAN:
+        return node.booleanValue() ? TRUE_SEED : FALSE_SEED;
+      case NUMBER:
+        // Equal numbers have the same nearest double, + 0.0 folds -0.0
+        return mix(NUMBER_SEED ^ Double.doubleToLongBits(node.doubleValue() + 0.0));
+      case STRING:
+        return mix(STRING_SEED ^ node.textValue().hashCode());
+      case ARRAY:
+        long arrayHash = ARRAY_SEED;
+        for (JsonNode item : node) {
+          arrayHash = mix(arrayHash * 31 + of(item));
+        }
+        return arrayHash;
+      case OBJECT:
+        // Order independent
+        long objectHash = OBJECT_SEED;
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+          Map.Entry<String, JsonNode> field = it.next();
+          objectHash += mix(field.getKey().hashCode() * 31L + of(field.getValue()));
+        }
+        return mix(objectHash);
+      default:
+        return mix(OTHER_SEED ^ node.hashCode());
+    }
+  }
+
+  /**
+   * Check the structural equality of the given values.
+   */
+  static boolean equal(final JsonNode n1, final JsonNode n2) {
+    if (n1.isNumber() && n2.isNumber()) {
+      return equalNumbers(n1, n2);
+    }
+    if (n1.getNodeType() != n2.getNodeType()) {
+      return false;
+    }
+
+    switch (n1.getNodeType()) {
+      case ARRAY:
+        if (n1.size() != n2.size()) {
+          return false;
+        }
+        for (int i = 0; i < n1.size(); i++) {
+          if (!equal(n1.get(i), n2.get(i))) {
+            return false;
+          }
+        }
+        return true;
+      case OBJECT:
+        if (n1.size() != n2.size()) {
+          return false;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = n1.fields(); it.hasNext(); ) {
+          Map.Entry<String, JsonNode> field = it.next();
+          JsonNode other = n2.get(field.getKey());
+          if (other == null || !equal(field.getValue(), other)) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return n1.equals(n2);
+    }
+  }
+
+  private static boolean equalNumbers(final JsonNode n1, final JsonNode n2) {
+    if (n1.isIntegralNumber() && n2.isIntegralNumber()) {
+      return (n1.canConvertToLong() && n2.canConvertToLong())
+        ? n1.longValue() == n2.longValue()
+        : n1.bigIntegerValue().equals(n2.bigIntegerValue());
+    }
+    // Only reached on fingerprint match
+    return n1.decimalValue().compareTo(n2.decimalValue()) == 0;
+  }
+
+  // Final step of MurmurHash3 64-bit
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
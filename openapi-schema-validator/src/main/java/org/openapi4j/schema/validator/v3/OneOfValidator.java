@@ -41,11 +41,15 @@ class OneOfValidator extends DiscriminatorValidator {
       return;
     }
 
+    if (branchSelector != null && validatePreSelected(valueNode, validation)) {
+      return;
+    }
+
     List<ValidationResults> resultsOnError = new ArrayList<>();
     ValidationResults validResults = null;
 
     for (SchemaValidator validator : validators) {
-      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate());
+      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
       validator.validate(valueNode, schemaValidation);
 
       if (schemaValidation.isValid()) {
@@ -70,4 +74,39 @@ class OneOfValidator extends DiscriminatorValidator {
       }
     }
   }
+
+  /**
+   * Validate against the pre-selected branches only, other branches fail for sure.
+   *
+   * @return {@code false} if no branch is valid, the full validation must be run to report errors.
+   */
+  private boolean validatePreSelected(final JsonNode valueNode, final ValidationData<?> validation) {
+    ValidationResults validResults = null;
+
+    for (int branch : branchSelector.candidates(valueNode)) {
+      if (branchSelector.excludes(branch, valueNode)) {
+        continue;
+      }
+
+      ValidationData<?> schemaValidation = new ValidationData<>(validation.delegate(), validation.maxErrors());
+      validators.get(branch).validate(valueNode, schemaValidation);
+
+      if (schemaValidation.isValid()) {
+        if (validResults != null) {
+          validation.add(CRUMB_INFO, MANY_VALID_SCHEMA_ERR);
+          return true;
+        }
+
+        validResults = schemaValidation.results();
+      }
+    }
+
+    if (validResults == null) {
+      return false;
+    }
+
+    // Append potential results from sub validation (INFO / WARN)
+    validation.add(validation.results().crumbs(), validResults);
+    return true;
+  }
 }
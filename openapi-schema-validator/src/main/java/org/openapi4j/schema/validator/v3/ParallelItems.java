@@ -0,0 +1,119 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.schema.validator.ValidationData;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel validation of array items.
+ * <p/>
+ * The array is split in chunks validated with their own results in the fork/join pool of the context.
+ * Chunk results are merged in index order. With fast fail, the results after the first failing item are dropped,
+ * so the results are the same as the sequential validation.
+ */
+final class ParallelItems {
+  private static final int MIN_CHUNK_SIZE = 256;
+  private static final int CHUNKS_BY_THREAD = 4;
+
+  private ParallelItems() {}
+
+  static void validate(final ItemsValidator validator,
+                       final ForkJoinPool pool,
+                       final JsonNode valueNode,
+                       final ValidationData<?> validation) {
+
+    int chunkSize = Math.max(MIN_CHUNK_SIZE, valueNode.size() / (pool.getParallelism() * CHUNKS_BY_THREAD));
+
+    ChunkTask task = new ChunkTask(
+      validator,
+      valueNode,
+      validation.delegate(),
+      validation.maxErrors(),
+      0,
+      valueNode.size(),
+      chunkSize,
+      new AtomicInteger(Integer.MAX_VALUE));
+
+    ChunkResult result = ForkJoinTask.inForkJoinPool() ? task.invoke() : pool.invoke(task);
+
+    validation.add(validation.results().crumbs(), result.results);
+  }
+
+  private static class ChunkResult {
+    private final ValidationResults results;
+    // Index of the first failing item with fast fail, -1 otherwise
+    private final int failIndex;
+
+    ChunkResult(ValidationResults results, int failIndex) {
+      this.results = results;
+      this.failIndex = failIndex;
+    }
+  }
+
+  private static class ChunkTask extends RecursiveTask<ChunkResult> {
+    private final ItemsValidator validator;
+    private final JsonNode valueNode;
+    private final Object delegate;
+    private final int maxErrors;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+    private final AtomicInteger failIndex;
+
+    ChunkTask(ItemsValidator validator, JsonNode valueNode, Object delegate, int maxErrors, int from, int to, int chunkSize, AtomicInteger failIndex) {
+      this.validator = validator;
+      this.valueNode = valueNode;
+      this.delegate = delegate;
+      this.maxErrors = maxErrors;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+      this.failIndex = failIndex;
+    }
+
+    @Override
+    protected ChunkResult compute() {
+      if (to - from <= chunkSize) {
+        return validateChunk();
+      }
+
+      int middle = (from + to) >>> 1;
+      ChunkTask left = new ChunkTask(validator, valueNode, delegate, maxErrors, from, middle, chunkSize, failIndex);
+      ChunkTask right = new ChunkTask(validator, valueNode, delegate, maxErrors, middle, to, chunkSize, failIndex);
+
+      right.fork();
+      ChunkResult leftResult = left.compute();
+      ChunkResult rightResult = right.join();
+
+      // Items after the first failure are not part of the results
+      if (leftResult.failIndex != -1) {
+        return leftResult;
+      }
+
+      leftResult.results.add(rightResult.results);
+      return new ChunkResult(leftResult.results, rightResult.failIndex);
+    }
+
+    private ChunkResult validateChunk() {
+      // A chunk never needs more errors than the whole array
+      ValidationData<Object> validation = new ValidationData<>(delegate, maxErrors);
+
+      // Skip the chunk if an item before failed
+      if (failIndex.get() < from) {
+        return new ChunkResult(validation.results(), from);
+      }
+
+      int index = validator.validate(valueNode, from, to, validation, failIndex);
+      if (index != -1) {
+        failIndex.accumulateAndGet(index, Math::min);
+      }
+
+      return new ChunkResult(validation.results(), index);
+    }
+  }
+}
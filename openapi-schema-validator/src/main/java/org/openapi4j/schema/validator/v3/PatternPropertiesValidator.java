@@ -6,12 +6,14 @@ import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.regex.Regex;
+import org.openapi4j.schema.validator.regex.RegexBudgetException;
 
-import java.util.IdentityHashMap;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.PATTERNPROPERTIES;
 
 /**
  * patternProperties keyword validator.
@@ -21,7 +23,9 @@ import java.util.regex.Pattern;
  * <a href="https://tools.ietf.org/html/draft-wright-json-schema-validation-00#page-9" />
  */
 class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
-  private final Map<Pattern, SchemaValidator> schemas = new IdentityHashMap<>();
+  private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(PATTERNPROPERTIES, true);
+
+  private final List<PatternSchema> schemas = new ArrayList<>();
 
   PatternPropertiesValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
     super(context, schemaNode, schemaParentNode, parentSchema);
@@ -29,7 +33,10 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
     Iterator<String> names = schemaNode.fieldNames();
     while (names.hasNext()) {
       String name = names.next();
-      schemas.put(Pattern.compile(name), new SchemaValidator(context, new ValidationResults.CrumbInfo(name, false), schemaNode.get(name), schemaParentNode, parentSchema));
+      schemas.add(new PatternSchema(
+        name,
+        context.getRegexEngine().compile(name),
+        new SchemaValidator(context, new ValidationResults.CrumbInfo(name, false), schemaNode.get(name), schemaParentNode, parentSchema)));
     }
   }
 
@@ -44,10 +51,9 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
     validate(() -> {
       while (names.hasNext()) {
         String name = names.next();
-        for (Map.Entry<Pattern, SchemaValidator> entry : schemas.entrySet()) {
-          Matcher m = entry.getKey().matcher(name);
-          if (m.matches()) {
-            entry.getValue().validateWithContext(valueNode.get(name), validation);
+        for (PatternSchema patternSchema : schemas) {
+          if (patternSchema.matches(name, validation)) {
+            patternSchema.schema.validateWithContext(valueNode.get(name), validation);
           }
         }
       }
@@ -55,4 +61,25 @@ class PatternPropertiesValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  private static class PatternSchema {
+    private final String expression;
+    private final Regex pattern;
+    private final SchemaValidator schema;
+
+    PatternSchema(String expression, Regex pattern, SchemaValidator schema) {
+      this.expression = expression;
+      this.pattern = pattern;
+      this.schema = schema;
+    }
+
+    boolean matches(final String name, final ValidationData<?> validation) {
+      try {
+        return pattern.matches(name);
+      } catch (RegexBudgetException ex) {
+        validation.add(CRUMB_INFO, PatternValidator.BUDGET_ERR, name, expression);
+        return false;
+      }
+    }
+  }
 }
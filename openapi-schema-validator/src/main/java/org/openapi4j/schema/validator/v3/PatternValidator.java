@@ -5,11 +5,11 @@ import org.openapi4j.core.model.v3.OAI3;
 import org.openapi4j.core.validation.ValidationResult;
 import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.schema.validator.BaseJsonValidator;
+import org.openapi4j.schema.validator.StreamedBinaryNode;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.openapi4j.schema.validator.regex.Regex;
+import org.openapi4j.schema.validator.regex.RegexBudgetException;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.PATTERN;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -24,17 +24,18 @@ import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
 class PatternValidator extends BaseJsonValidator<OAI3> {
   private static final ValidationResult PATTERN_DEF_ERR = new ValidationResult(ERROR, 1024, "Wrong pattern definition '%s'.");
   private static final ValidationResult ERR = new ValidationResult(ERROR, 1025, "'%s' does not respect pattern '%s'.");
+  static final ValidationResult BUDGET_ERR = new ValidationResult(ERROR, 1029, "'%s' can't be matched against pattern '%s' within the step budget.");
 
   private static final ValidationResults.CrumbInfo CRUMB_INFO = new ValidationResults.CrumbInfo(PATTERN, true);
 
   private final String patternStr;
-  private final Pattern pattern;
+  private final Regex pattern;
 
   PatternValidator(final ValidationContext<OAI3> context, final JsonNode schemaNode, final JsonNode schemaParentNode, final SchemaValidator parentSchema) {
     super(context, schemaNode, schemaParentNode, parentSchema);
 
     patternStr = schemaNode.asText();
-    pattern = schemaNode.isTextual() ? Pattern.compile(schemaNode.textValue()) : null;
+    pattern = schemaNode.isTextual() ? context.getRegexEngine().compile(schemaNode.textValue()) : null;
   }
 
   @Override
@@ -42,14 +43,17 @@ class PatternValidator extends BaseJsonValidator<OAI3> {
     if (pattern == null) {
       validation.add(CRUMB_INFO, PATTERN_DEF_ERR, patternStr);
       return false;
-    } else if (!valueNode.isTextual()) {
+    } else if (!valueNode.isTextual() || valueNode instanceof StreamedBinaryNode) {
       return false;
     }
 
     String value = valueNode.textValue();
-    Matcher m = pattern.matcher(value);
-    if (!m.find()) {
-      validation.add(CRUMB_INFO, ERR, value, patternStr);
+    try {
+      if (!pattern.find(value)) {
+        validation.add(CRUMB_INFO, ERR, value, patternStr);
+      }
+    } catch (RegexBudgetException ex) {
+      validation.add(CRUMB_INFO, BUDGET_ERR, value, patternStr);
     }
 
     return false;
@@ -46,4 +46,8 @@ class PropertiesValidator extends BaseJsonValidator<OAI3> {
 
     return false;
   }
+
+  SchemaValidator getPropertySchema(final String propertyName) {
+    return schemas.get(propertyName);
+  }
 }
@@ -44,7 +44,13 @@ class ReferenceValidator extends BaseJsonValidator<OAI3> {
       JsonValidator validator = context.getReference(refValue);
       if (validator == null) {
         ReferenceValidator refValidator = new ReferenceValidator(context, refValue, schemaNode, schemaParentNode, parentSchema);
-        refValidator.setSchemaValidator(new SchemaValidator(context, new ValidationResults.CrumbInfo(schemaNode.textValue(), true), reference.getContent(), schemaParentNode, parentSchema));
+        boolean completed = false;
+        try {
+          refValidator.setSchemaValidator(new SchemaValidator(context, new ValidationResults.CrumbInfo(schemaNode.textValue(), true), reference.getContent(), schemaParentNode, parentSchema));
+          completed = true;
+        } finally {
+          context.endReference(completed);
+        }
         schemaValidator = refValidator;
       } else {
         schemaValidator = validator;
@@ -77,6 +83,18 @@ class ReferenceValidator extends BaseJsonValidator<OAI3> {
     this.schemaValidator = schemaValidator;
   }
 
+  /**
+   * Get the schema validator at the end of the reference chain.
+   */
+  SchemaValidator getTargetSchema() {
+    JsonValidator validator = schemaValidator;
+    while (validator instanceof ReferenceValidator) {
+      validator = ((ReferenceValidator) validator).schemaValidator;
+    }
+
+    return (SchemaValidator) validator;
+  }
+
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
     schemaValidator.validate(valueNode, validation);
@@ -10,6 +10,7 @@ import org.openapi4j.schema.validator.ValidationData;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.REQUIRED;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -44,14 +45,21 @@ class RequiredValidator extends BaseJsonValidator<OAI3> {
 
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (fieldNames == null) return false;
+    validateFieldNames(fieldName -> null != valueNode.get(fieldName), validation);
+
+    return false;
+  }
+
+  /**
+   * Validate the required fields against the given presence check, i.e. when the value is read from a stream.
+   */
+  void validateFieldNames(final Predicate<String> hasField, final ValidationData<?> validation) {
+    if (fieldNames == null) return;
 
     for (String fieldName : fieldNames) {
-      if (null == valueNode.get(fieldName)) {
+      if (!hasField.test(fieldName)) {
         validation.add(CRUMB_INFO, ERR, fieldName);
       }
     }
-
-    return false;
   }
 }
@@ -1,5 +1,6 @@
 package org.openapi4j.schema.validator.v3;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.openapi4j.core.exception.ResolutionException;
@@ -12,15 +13,14 @@ import org.openapi4j.schema.validator.JsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.*;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.*;
 import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PROPS_RESTRICT;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.COMPILED_VALIDATION;
 
 /**
  * Schema validation implementation.
@@ -31,6 +31,10 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
 
   private final ValidationResults.CrumbInfo crumbInfo;
   private final Map<String, Collection<JsonValidator>> validators;
+  // Compiled validation, keyword validators flattened and ordered by cost
+  private final JsonValidator[] program;
+  // Index of the first validator of the next keyword for each program slot
+  private final int[] nextKeywordIndexes;
 
   /**
    * Create a new Schema Object validator.
@@ -82,6 +86,15 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
 
     this.crumbInfo = crumbInfo;
     validators = read(this.context, schemaNode);
+
+    if (this.context.getOption(COMPILED_VALIDATION)) {
+      program = compile(validators);
+      nextKeywordIndexes = new int[program.length];
+      linkKeywords(validators);
+    } else {
+      program = null;
+      nextKeywordIndexes = null;
+    }
   }
 
   /**
@@ -98,6 +111,21 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     return true;
   }
 
+  /**
+   * Validate the JSON content read from the given parser.
+   * <p/>
+   * Objects and arrays are validated while reading the tokens,
+   * only the subtrees required by keywords like composition ones (i.e. oneOf, anyOf, ...) are built.
+   * With fast fail behaviour, the reading stops on the first error.
+   *
+   * @param parser     The parser positioned before or on the first token of the value.
+   * @param validation The result stack to append any additional info from the validation.
+   * @throws IOException for reading or JSON syntax errors.
+   */
+  public void validate(final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    StreamingValidator.instance().validate(this, parser, validation);
+  }
+
   /**
    * Get the context of validation.
    */
@@ -105,16 +133,31 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     return context;
   }
 
+  ValidationResults.CrumbInfo getCrumbInfo() {
+    return crumbInfo;
+  }
+
+  Map<String, Collection<JsonValidator>> getValidators() {
+    return validators;
+  }
+
   SchemaValidator findParent() {
     return (getParentSchema() != null) ? getParentSchema().findParent() : this;
   }
 
   final void validateWithContext(JsonNode valueNode, final ValidationData<?> validation) throws ValidationException {
+    // No more errors will be collected
+    if (validation.isMaxErrorsReached()) {
+      return;
+    }
+
     if (valueNode == null) {
       valueNode = JsonNodeFactory.instance.nullNode();
     }
 
-    if (context.isFastFail()) {
+    if (program != null) {
+      compiledValidate(valueNode, validation);
+    } else if (context.isFastFail()) {
       fastFailValidate(valueNode, validation);
     } else {
       defaultValidate(valueNode, validation);
@@ -122,37 +165,75 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
   }
 
   private void fastFailValidate(final JsonNode valueNode, final ValidationData<?> validation) throws ValidationException {
-    validation.results().withCrumb(crumbInfo, () -> {
-      for (Collection<JsonValidator> keywordValidators : validators.values()) {
-        for (JsonValidator validator : keywordValidators) {
-          boolean shouldChain = validator.validate(valueNode, validation);
+    validation.results().pushCrumb(crumbInfo);
+    try {
+      fastFailValidators(valueNode, validation);
+    } finally {
+      validation.results().popCrumb(crumbInfo);
+    }
 
-          if (!validation.isValid()) {
-            return;
-          }
+    if (!validation.isValid()) {
+      throw new ValidationException(null, validation.results());
+    }
+  }
 
-          if (!shouldChain) {
-            break;
-          }
+  private void fastFailValidators(final JsonNode valueNode, final ValidationData<?> validation) {
+    for (Collection<JsonValidator> keywordValidators : validators.values()) {
+      for (JsonValidator validator : keywordValidators) {
+        boolean shouldChain = validator.validate(valueNode, validation);
+
+        if (!validation.isValid()) {
+          return;
+        }
+
+        if (!shouldChain) {
+          break;
+        }
+      }
+    }
+  }
+
+  private void compiledValidate(final JsonNode valueNode, final ValidationData<?> validation) throws ValidationException {
+    final boolean isFastFail = context.isFastFail();
+
+    validation.results().pushCrumb(crumbInfo);
+    try {
+      int index = 0;
+      while (index < program.length) {
+        boolean shouldChain = program[index].validate(valueNode, validation);
+
+        if ((isFastFail && !validation.isValid()) || validation.isMaxErrorsReached()) {
+          break;
         }
+
+        index = shouldChain ? index + 1 : nextKeywordIndexes[index];
       }
-    });
+    } finally {
+      validation.results().popCrumb(crumbInfo);
+    }
 
-    if (!validation.isValid()) {
+    if (isFastFail && !validation.isValid()) {
       throw new ValidationException(null, validation.results());
     }
   }
 
   private void defaultValidate(final JsonNode valueNode, final ValidationData<?> validation) {
-    validation.results().withCrumb(crumbInfo, () -> {
+    validation.results().pushCrumb(crumbInfo);
+    try {
       for (Collection<JsonValidator> keywordValidators : validators.values()) {
         for (JsonValidator validator : keywordValidators) {
           if (!validator.validate(valueNode, validation)) {
             break;
           }
         }
+
+        if (validation.isMaxErrorsReached()) {
+          break;
+        }
       }
-    });
+    } finally {
+      validation.results().popCrumb(crumbInfo);
+    }
   }
 
   /**
@@ -177,6 +258,44 @@ public class SchemaValidator extends BaseJsonValidator<OAI3> {
     return validatorMap;
   }
 
+  /**
+   * Flatten the keyword validators into a single array ordered by keyword cost.
+   * Validators of the same keyword are kept together and in the same order.
+   */
+  private JsonValidator[] compile(final Map<String, Collection<JsonValidator>> keywordValidators) {
+    List<JsonValidator> flatValidators = new ArrayList<>();
+
+    for (String keyword : getKeywordsByCost(keywordValidators)) {
+      flatValidators.addAll(keywordValidators.get(keyword));
+    }
+
+    return flatValidators.toArray(new JsonValidator[0]);
+  }
+
+  /**
+   * Setup the jump indexes to skip the remaining validators of a keyword when the chain is stopped.
+   */
+  private void linkKeywords(final Map<String, Collection<JsonValidator>> keywordValidators) {
+    int index = 0;
+
+    for (String keyword : getKeywordsByCost(keywordValidators)) {
+      int nextKeywordIndex = index + keywordValidators.get(keyword).size();
+      while (index < nextKeywordIndex) {
+        nextKeywordIndexes[index++] = nextKeywordIndex;
+      }
+    }
+  }
+
+  private List<String> getKeywordsByCost(final Map<String, Collection<JsonValidator>> keywordValidators) {
+    List<String> keywords = new ArrayList<>(keywordValidators.keySet());
+
+    keywords.sort(Comparator
+      .comparingInt((String keyword) -> ValidatorsRegistry.instance().getKeywordCost(keyword))
+      .thenComparing(Comparator.naturalOrder()));
+
+    return keywords;
+  }
+
   private void applyAdditionalValidators(final Map<String, Collection<JsonValidator>> validatorMap,
                                          final JsonNode schemaNode) {
 
@@ -0,0 +1,249 @@
+package org.openapi4j.schema.validator.v3;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.schema.validator.JsonValidator;
+import org.openapi4j.schema.validator.ValidationData;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.$REF;
+
+/**
+ * Validates JSON content while reading the tokens from a parser.
+ * <p/>
+ * Objects and arrays are streamed when all the keywords of the schema can be checked
+ * without the whole value (i.e. properties, items, required, sizes, ...).
+ * Other values are read as subtree and validated with the keyword validators.
+ * Overridden or additional validators always get the subtree.
+ */
+final class StreamingValidator {
+  private static final StreamingValidator INSTANCE = new StreamingValidator();
+
+  // Used to validate keywords which don't depend on the container content (i.e. type, nullable, ...)
+  private static final JsonNode EMPTY_OBJECT = JsonNodeFactory.instance.objectNode();
+  private static final JsonNode EMPTY_ARRAY = JsonNodeFactory.instance.arrayNode();
+
+  // Core validators which can be applied while streaming
+  private static final Set<Class<?>> STREAMABLE_VALIDATORS = new HashSet<>(Arrays.asList(
+    TypeValidator.class,
+    NullableValidator.class,
+    MinLengthValidator.class,
+    MaxLengthValidator.class,
+    PatternValidator.class,
+    MinimumValidator.class,
+    MaximumValidator.class,
+    MultipleOfValidator.class,
+    PropertiesValidator.class,
+    AdditionalPropertiesValidator.class,
+    RequiredValidator.class,
+    MinPropertiesValidator.class,
+    MaxPropertiesValidator.class,
+    ItemsValidator.class,
+    MinItemsValidator.class,
+    MaxItemsValidator.class));
+
+  private StreamingValidator() {
+  }
+
+  static StreamingValidator instance() {
+    return INSTANCE;
+  }
+
+  void validate(final SchemaValidator schema, final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    if (parser.getCodec() == null) {
+      parser.setCodec(TreeUtil.json);
+    }
+
+    if (!parser.hasCurrentToken() && parser.nextToken() == null) {
+      // No content
+      schema.validate((JsonNode) null, validation);
+      return;
+    }
+
+    validateValue(schema, parser, validation);
+  }
+
+  /**
+   * Validate the value starting at the current token.
+   * On return, the current token is the last one of the value.
+   */
+  private void validateValue(final SchemaValidator schema, final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    final JsonToken token = parser.currentToken();
+    final Map<String, Collection<JsonValidator>> validators = schema.getValidators();
+
+    if (token == JsonToken.START_OBJECT && isStreamable(validators)) {
+      validation.results().pushCrumb(schema.getCrumbInfo());
+      try {
+        validateObject(schema, parser, validation);
+      } finally {
+        validation.results().popCrumb(schema.getCrumbInfo());
+      }
+    } else if (token == JsonToken.START_ARRAY && isStreamable(validators)) {
+      validation.results().pushCrumb(schema.getCrumbInfo());
+      try {
+        validateArray(schema, parser, validation);
+      } finally {
+        validation.results().popCrumb(schema.getCrumbInfo());
+      }
+    } else if (token.isStructStart() && isReference(validators)) {
+      ReferenceValidator reference = (ReferenceValidator) validators.get($REF).iterator().next();
+      validation.results().pushCrumb(schema.getCrumbInfo());
+      try {
+        validateValue(reference.getTargetSchema(), parser, validation);
+      } finally {
+        validation.results().popCrumb(schema.getCrumbInfo());
+      }
+    } else {
+      schema.validate((JsonNode) parser.readValueAsTree(), validation);
+    }
+  }
+
+  private void validateObject(final SchemaValidator schema, final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    final boolean isFastFail = schema.getContext().isFastFail();
+
+    PropertiesValidator properties = null;
+    AdditionalPropertiesValidator additionalProperties = null;
+    RequiredValidator required = null;
+    MinPropertiesValidator minProperties = null;
+    MaxPropertiesValidator maxProperties = null;
+
+    for (Collection<JsonValidator> keywordValidators : schema.getValidators().values()) {
+      JsonValidator validator = keywordValidators.iterator().next();
+
+      if (validator instanceof PropertiesValidator) {
+        properties = (PropertiesValidator) validator;
+      } else if (validator instanceof AdditionalPropertiesValidator) {
+        additionalProperties = (AdditionalPropertiesValidator) validator;
+      } else if (validator instanceof RequiredValidator) {
+        required = (RequiredValidator) validator;
+      } else if (validator instanceof MinPropertiesValidator) {
+        minProperties = (MinPropertiesValidator) validator;
+      } else if (validator instanceof MaxPropertiesValidator) {
+        maxProperties = (MaxPropertiesValidator) validator;
+      } else {
+        validator.validate(EMPTY_OBJECT, validation);
+        if (isFastFail && !validation.isValid()) return;
+      }
+    }
+
+    final Set<String> fieldNames = (required != null) ? new HashSet<>() : null;
+    int size = 0;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      size++;
+
+      if (fieldNames != null) {
+        fieldNames.add(fieldName);
+      }
+
+      SchemaValidator valueSchema = (properties != null) ? properties.getPropertySchema(fieldName) : null;
+      if (valueSchema == null && additionalProperties != null && additionalProperties.isAdditionalProperty(fieldName, validation)) {
+        valueSchema = additionalProperties.getAdditionalPropertiesSchema();
+        if (valueSchema == null) {
+          additionalProperties.addError(fieldName, validation);
+        }
+      }
+
+      if (valueSchema != null) {
+        validateValue(valueSchema, parser, validation);
+      } else {
+        parser.skipChildren();
+      }
+
+      if (isFastFail && !validation.isValid()) return;
+    }
+
+    if (required != null) {
+      required.validateFieldNames(fieldNames::contains, validation);
+    }
+    if (minProperties != null) {
+      minProperties.validateSize(size, validation);
+    }
+    if (maxProperties != null) {
+      maxProperties.validateSize(size, validation);
+    }
+  }
+
+  private void validateArray(final SchemaValidator schema, final JsonParser parser, final ValidationData<?> validation) throws IOException {
+    final boolean isFastFail = schema.getContext().isFastFail();
+
+    ItemsValidator items = null;
+    MinItemsValidator minItems = null;
+    MaxItemsValidator maxItems = null;
+
+    for (Collection<JsonValidator> keywordValidators : schema.getValidators().values()) {
+      JsonValidator validator = keywordValidators.iterator().next();
+
+      if (validator instanceof ItemsValidator) {
+        items = (ItemsValidator) validator;
+      } else if (validator instanceof MinItemsValidator) {
+        minItems = (MinItemsValidator) validator;
+      } else if (validator instanceof MaxItemsValidator) {
+        maxItems = (MaxItemsValidator) validator;
+      } else {
+        validator.validate(EMPTY_ARRAY, validation);
+        if (isFastFail && !validation.isValid()) return;
+      }
+    }
+
+    int size = 0;
+
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (items != null) {
+        ValidationResults.CrumbInfo crumbInfo = ItemsValidator.indexCrumb(size);
+        validation.results().pushCrumb(crumbInfo);
+        try {
+          validateValue(items.getSchema(), parser, validation);
+        } finally {
+          validation.results().popCrumb(crumbInfo);
+        }
+      } else {
+        parser.skipChildren();
+      }
+      size++;
+
+      if (isFastFail && !validation.isValid()) return;
+    }
+
+    if (minItems != null) {
+      minItems.validateSize(size, validation);
+    }
+    if (maxItems != null) {
+      maxItems.validateSize(size, validation);
+    }
+  }
+
+  /**
+   * Check if all the keywords are handled by core validators.
+   * Validators of the other container kind are given an empty container since they have no effect on the content.
+   */
+  private boolean isStreamable(final Map<String, Collection<JsonValidator>> validators) {
+    for (Collection<JsonValidator> keywordValidators : validators.values()) {
+      if (keywordValidators.size() != 1
+        || !STREAMABLE_VALIDATORS.contains(keywordValidators.iterator().next().getClass())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean isReference(final Map<String, Collection<JsonValidator>> validators) {
+    if (validators.size() != 1) {
+      return false;
+    }
+
+    Collection<JsonValidator> keywordValidators = validators.get($REF);
+    return keywordValidators != null
+      && keywordValidators.size() == 1
+      && keywordValidators.iterator().next().getClass() == ReferenceValidator.class;
+  }
+}
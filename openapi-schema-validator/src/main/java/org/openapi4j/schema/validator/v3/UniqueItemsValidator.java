@@ -8,8 +8,7 @@ import org.openapi4j.schema.validator.BaseJsonValidator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.ValidationData;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 import static org.openapi4j.core.model.v3.OAI3SchemaKeywords.UNIQUEITEMS;
 import static org.openapi4j.core.validation.ValidationSeverity.ERROR;
@@ -36,14 +35,42 @@ class UniqueItemsValidator extends BaseJsonValidator<OAI3> {
 
   @Override
   public boolean validate(final JsonNode valueNode, final ValidationData<?> validation) {
-    if (!unique) {
+    if (!unique || !valueNode.isArray()) {
       return false;
     }
 
-    Set<JsonNode> set = new HashSet<>();
-    for (JsonNode n : valueNode) {
-      if (!set.add(n)) {
-        validation.add(CRUMB_INFO, ERR, n.asText());
+    final int size = valueNode.size();
+    if (size < 2) {
+      return false;
+    }
+
+    // Open addressing table of item indexes, keyed by fingerprint
+    final int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+    final long[] fingerprints = new long[capacity];
+    final int[] indexes = new int[capacity];
+    Arrays.fill(indexes, -1);
+
+    for (int i = 0; i < size; i++) {
+      JsonNode item = valueNode.get(i);
+      long fingerprint = NodeFingerprint.of(item);
+
+      int slot = (int) fingerprint & (capacity - 1);
+      while (indexes[slot] != -1) {
+        // Deep equality on fingerprint collision only
+        if (fingerprints[slot] == fingerprint && NodeFingerprint.equal(valueNode.get(indexes[slot]), item)) {
+          break;
+        }
+        slot = (slot + 1) & (capacity - 1);
+      }
+
+      if (indexes[slot] == -1) {
+        fingerprints[slot] = fingerprint;
+        indexes[slot] = i;
+      } else {
+        validation.add(CRUMB_INFO, ERR, item.asText());
+        if (context.isFastFail()) {
+          break;
+        }
       }
     }
 
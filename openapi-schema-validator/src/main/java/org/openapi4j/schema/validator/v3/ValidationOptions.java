@@ -12,4 +12,47 @@ public final class ValidationOptions {
    * Setting this to {@code true} invert the behaviour.
    */
   public static final byte ADDITIONAL_PROPS_RESTRICT = 1;
+
+  /**
+   * By default, keyword validators are stored by keyword and run in no particular order.
+   * <p/>
+   * Setting this to {@code true} compiles each schema into a flat array of keyword validators
+   * where cheap checks (i.e. type, nullable, bounds) run before expensive ones (i.e. pattern, oneOf, uniqueItems).
+   */
+  public static final byte COMPILED_VALIDATION = 2;
+
+  /**
+   * By default, JSON request and response bodies are read as a whole tree before validation.
+   * <p/>
+   * Setting this to {@code true} validates JSON bodies given as string or stream while parsing the content,
+   * objects and arrays are only materialized when required by keywords (i.e. composition, enum, uniqueItems).
+   */
+  public static final byte JSON_STREAMING = 3;
+
+  /**
+   * By default, multipart parts are read as text before conversion.
+   * <p/>
+   * Setting this to {@code true} streams multipart bodies: binary parts (files and string/binary properties)
+   * are only counted and checked against maxLength, without being buffered.
+   * Size limits are options of the operation validator.
+   */
+  public static final byte MULTIPART_STREAMING = 4;
+
+  /**
+   * By default, validation runs on the calling thread.
+   * <p/>
+   * Setting this to {@code true} validates large arrays by chunks in the fork/join pool of the context,
+   * and request bodies concurrently with the parameters (operation validator).
+   * Results are merged in index order, so they are the same as the sequential validation.
+   * Custom validators and the validation delegate must be thread-safe.
+   * The minimum array size can be set with {@link #PARALLEL_MIN_ITEMS}.
+   */
+  public static final byte PARALLEL_VALIDATION = 5;
+
+  /**
+   * Minimum number of items of an array to be validated in parallel when {@link #PARALLEL_VALIDATION} is enabled.
+   * <p/>
+   * To be set with {@code ValidationContext.setLimit}, 1000 by default.
+   */
+  public static final byte PARALLEL_MIN_ITEMS = 6;
 }
@@ -68,6 +68,45 @@ class ValidatorsRegistry {
     return validatorInstances;
   }
 
+  /**
+   * Get the relative cost of the given keyword validation.
+   * Unknown keywords (i.e. custom validators) are considered as expensive.
+   *
+   * @param keyword The given keyword.
+   * @return The relative cost, lower is cheaper.
+   */
+  int getKeywordCost(final String keyword) {
+    switch (keyword) {
+      case NULLABLE: return 0;
+      case TYPE: return 1;
+      case MAXLENGTH:
+      case MINLENGTH:
+      case MAXIMUM:
+      case MINIMUM:
+      case MAXITEMS:
+      case MINITEMS:
+      case MAXPROPERTIES:
+      case MINPROPERTIES: return 2;
+      case MULTIPLEOF:
+      case REQUIRED:
+      case DEPENDENCIES: return 3;
+      case ENUM:
+      case FORMAT: return 4;
+      case PROPERTIES:
+      case ADDITIONALPROPERTIES:
+      case ITEMS:
+      case $REF:
+      case ALLOF:
+      case NOT: return 5;
+      case PATTERNPROPERTIES:
+      case ANYOF: return 6;
+      case PATTERN:
+      case ONEOF:
+      case UNIQUEITEMS: return 7;
+      default: return 8;
+    }
+  }
+
   private ValidatorInstance getCoreValidator(final String keyword) {
     switch (keyword) {
       case ADDITIONALPROPERTIES: return AdditionalPropertiesValidator::new;
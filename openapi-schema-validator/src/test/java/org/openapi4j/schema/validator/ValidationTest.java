@@ -1,6 +1,7 @@
 package org.openapi4j.schema.validator;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.Test;
 import org.openapi4j.core.model.v3.OAI3;
@@ -12,13 +13,39 @@ import org.openapi4j.schema.validator.v3.*;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.openapi4j.schema.validator.v3.ValidationOptions.ADDITIONAL_PROPS_RESTRICT;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.COMPILED_VALIDATION;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_MIN_ITEMS;
+import static org.openapi4j.schema.validator.v3.ValidationOptions.PARALLEL_VALIDATION;
 
 public class ValidationTest {
+  // Keyword fixtures also run with compiled and streaming validation
+  private static final String[] KEYWORD_TEST_PATHS = {
+    "additionalProperties", "allOf", "anyOf", "dependencies", "discriminator", "enum", "format",
+    "items", "maximum", "maxItems", "maxLength", "maxProperties", "minimum", "minItems", "minLength",
+    "minProperties", "multipleOf", "not", "nullable", "oneOf", "pattern", "patternProperties",
+    "properties", "required", "reference", "type", "uniqueItems"};
+
   @Test
   public void additionalPropertiesValidator() throws Exception {
     ValidationUtil.validate("/schema/additionalProperties.json");
@@ -194,6 +221,52 @@ public class ValidationTest {
     ValidationUtil.validate("/schema/override/myEntityValidation.json", null, validators, false);
   }
 
+  @Test
+  public void compiledValidation() throws Exception {
+    Map<Byte, Boolean> options = new HashMap<>();
+    options.put(COMPILED_VALIDATION, true);
+
+    for (String testPath : KEYWORD_TEST_PATHS) {
+      ValidationUtil.validate("/schema/" + testPath + ".json", options, null, false);
+      ValidationUtil.validate("/schema/" + testPath + ".json", options, null, true);
+    }
+  }
+
+  @Test
+  public void compiledOverriddenValidation() throws Exception {
+    Map<Byte, Boolean> options = new HashMap<>();
+    options.put(COMPILED_VALIDATION, true);
+    Map<String, ValidatorInstance> validators = new HashMap<>();
+    validators.put(OAI3SchemaKeywords.MAXIMUM, MaximumToleranceValidator::new);
+    validators.put("x-myentity-val", MyEntityValidator::new);
+
+    ValidationUtil.validate("/schema/override/maximumTolerance.json", options, validators, true);
+    ValidationUtil.validate("/schema/override/maximumTolerance.json", options, validators, false);
+  }
+
+  @Test
+  public void streamingValidation() throws Exception {
+    for (String testPath : KEYWORD_TEST_PATHS) {
+      ValidationUtil.validateStreaming("/schema/" + testPath + ".json", false);
+      ValidationUtil.validateStreaming("/schema/" + testPath + ".json", true);
+    }
+  }
+
+  @Test
+  public void streamingCrumbs() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"foo\": { \"type\": \"array\", \"items\": { \"type\": \"integer\" } } }, \"required\": [\"bar\"] }");
+
+    SchemaValidator validator = new SchemaValidator(null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.getFactory().createParser("{ \"foo\": [1, \"2\"] }"), validation);
+
+    assertEquals(2, validation.results().size());
+    assertEquals("foo.1", validation.results().items().get(0).dataCrumbs());
+    assertEquals("foo.1.<items>.<type>", validation.results().items().get(0).schemaCrumbs());
+    assertEquals("<required>", validation.results().items().get(1).schemaCrumbs());
+  }
+
   @Test
   public void infoInAnyOfValidation() throws Exception {
     JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"foo\": { \"anyOf\": [ { \"type\": \"integer\" }, { \"minimum\": 2 } ] } }}");
@@ -250,6 +323,204 @@ public class ValidationTest {
     assertEquals("true", validation.results().items().get(1).message());
   }
 
+  @Test
+  public void customFormatChecker() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"foo\": { \"format\": \"even\" }, \"bar\": { \"format\": \"date\" } } }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addFormatChecker("even", node -> node.isInt() && node.intValue() % 2 == 0);
+    // Override built-in checker
+    validationContext.addFormatChecker(OAI3SchemaKeywords.FORMAT_DATE, node -> node.textValue().startsWith("20"));
+
+    SchemaValidator validator = new SchemaValidator(validationContext, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"foo\": 2, \"bar\": \"20th century\" }"), validation);
+    assertTrue(validation.isValid());
+
+    validator.validate(TreeUtil.json.readTree("{ \"foo\": 3, \"bar\": \"1999-01-01\" }"), validation);
+    assertEquals(2, validation.results().size());
+    assertEquals(1007, validation.results().items().get(0).code().intValue());
+  }
+
+  @Test
+  public void parallelItems() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"items\": { \"type\": \"array\", \"items\": { \"type\": \"array\", \"items\": { \"type\": \"integer\", \"maximum\": 100 } } } } }");
+
+    // Nested arrays with invalid items spread over the chunks
+    ArrayNode items = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < 3000; i++) {
+      ArrayNode item = items.addArray();
+      for (int j = 0; j < 300; j++) {
+        item.add((i % 700 == 0 && j % 150 == 0) ? 1000 + i : j % 100);
+      }
+    }
+    JsonNode data = JsonNodeFactory.instance.objectNode().set("items", items);
+
+    for (boolean fastFail : new boolean[]{false, true}) {
+      ValidationData<Void> expected = validate(schemaNode, data, fastFail, false, Integer.MAX_VALUE);
+      ValidationData<Void> actual = validate(schemaNode, data, fastFail, true, Integer.MAX_VALUE);
+
+      assertEquals(fastFail ? 1 : 10, expected.results().size());
+      assertEquals(expected.results().toString(), actual.results().toString());
+    }
+  }
+
+  @Test
+  public void parallelItemsSplit() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"items\": { \"x-split\": true } }");
+
+    ArrayNode items = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < 3000; i++) {
+      items.add(i);
+    }
+
+    // First and last items wait for each other, they only meet when validated by different chunks
+    CountDownLatch latch = new CountDownLatch(2);
+    List<Boolean> met = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new CopyOnWriteArrayList<>();
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.setOption(PARALLEL_VALIDATION, true);
+    validationContext.setLimit(PARALLEL_MIN_ITEMS, 100);
+    ForkJoinPool pool = new ForkJoinPool(2);
+    validationContext.setForkJoinPool(pool);
+    validationContext.addValidator("x-split", (context, node, parentNode, parentSchema) -> new BaseJsonValidator<OAI3>(context, node, parentNode, parentSchema) {
+      @Override
+      public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+        threads.add(Thread.currentThread());
+        if (valueNode.intValue() == 0 || valueNode.intValue() == 2999) {
+          latch.countDown();
+          try {
+            met.add(latch.await(10, TimeUnit.SECONDS));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return true;
+      }
+    });
+
+    ValidationData<Void> validation = new ValidationData<>();
+    try {
+      new SchemaValidator(validationContext, "root", schemaNode).validate(items, validation);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertTrue(validation.isValid());
+    assertEquals(3000, threads.size());
+    assertEquals(Arrays.asList(true, true), met);
+    for (Thread thread : threads) {
+      assertSame(pool, ((ForkJoinWorkerThread) thread).getPool());
+    }
+  }
+
+  @Test
+  public void concurrentReferences() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"definitions\": { \"node\": { \"type\": \"object\", \"properties\": { \"value\": { \"type\": \"integer\" }, \"children\": { \"type\": \"array\", \"items\": { \"$ref\": \"#/definitions/node\" } } } } }, " +
+        "\"properties\": { \"a\": { \"$ref\": \"#/definitions/node\" }, \"b\": { \"$ref\": \"#/definitions/node\" } } }");
+    JsonNode data = TreeUtil.json.readTree("{ \"a\": { \"children\": [ { \"value\": 1, \"children\": [ { \"value\": \"x\" } ] } ] }, \"b\": { \"value\": \"y\" } }");
+
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+
+    // Validators of the same references are created concurrently from the same context
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CyclicBarrier barrier = new CyclicBarrier(4);
+      List<Future<ValidationData<Void>>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(() -> {
+          barrier.await();
+          ValidationData<Void> validation = new ValidationData<>();
+          new SchemaValidator(validationContext, "root", schemaNode).validate(data, validation);
+          return validation;
+        }));
+      }
+
+      for (Future<ValidationData<Void>> future : futures) {
+        assertEquals(2, future.get().results().size());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // References are shared once created
+    assertNotNull(validationContext.getReference("file:/#/definitions/node"));
+  }
+
+  @Test
+  public void maxErrors() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"items\": { \"type\": \"array\", \"items\": { \"type\": \"integer\", \"maximum\": 100 } } } }");
+
+    ArrayNode items = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < 3000; i++) {
+      items.add(1000 + i);
+    }
+    JsonNode data = JsonNodeFactory.instance.objectNode().set("items", items);
+
+    ValidationData<Void> unbounded = validate(schemaNode, data, false, false, Integer.MAX_VALUE);
+    assertEquals(3000, unbounded.results().size());
+    assertFalse(unbounded.isMaxErrorsReached());
+
+    for (boolean parallel : new boolean[]{false, true}) {
+      ValidationData<Void> validation = validate(schemaNode, data, false, parallel, 5);
+
+      assertFalse(validation.isValid());
+      assertTrue(validation.isMaxErrorsReached());
+      assertEquals(5, validation.results().size());
+      assertEquals("/root/items/0", validation.results().items().get(0).dataJsonPointer());
+      assertEquals("root.items.4", validation.results().items().get(4).dataCrumbs());
+      assertEquals(
+        unbounded.results().items().get(4).toString(),
+        validation.results().items().get(4).toString());
+    }
+  }
+
+  @Test
+  public void maxErrorsInBranches() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"oneOf\": [ { \"x-limit\": true, \"type\": \"string\" }, { \"x-limit\": true, \"type\": \"boolean\" } ]," +
+        " \"anyOf\": [ { \"x-limit\": true } ]," +
+        " \"allOf\": [ { \"x-limit\": true } ] }");
+
+    // Record the limit given to sub-schemas
+    List<Integer> limits = new ArrayList<>();
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.addValidator("x-limit", (context, node, parentNode, parentSchema) -> new BaseJsonValidator<OAI3>(context, node, parentNode, parentSchema) {
+      @Override
+      public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+        limits.add(validation.maxErrors());
+        return true;
+      }
+    });
+
+    ValidationData<Void> validation = new ValidationData<>(null, 5);
+    new SchemaValidator(validationContext, "root", schemaNode).validate(JsonNodeFactory.instance.numberNode(1), validation);
+
+    assertFalse(validation.isValid());
+    assertEquals(4, limits.size());
+    for (int limit : limits) {
+      assertEquals(5, limit);
+    }
+  }
+
+  private ValidationData<Void> validate(JsonNode schemaNode, JsonNode data, boolean fastFail, boolean parallel, int maxErrors) throws Exception {
+    OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    validationContext.setFastFail(fastFail);
+    validationContext.setOption(PARALLEL_VALIDATION, parallel);
+    validationContext.setLimit(PARALLEL_MIN_ITEMS, 100);
+
+    ValidationData<Void> validation = new ValidationData<>(null, maxErrors);
+    new SchemaValidator(validationContext, "root", schemaNode).validate(data, validation);
+    return validation;
+  }
+
   @Test
   public void dataJsonPointer() throws Exception {
     JsonNode schemaNode = TreeUtil.json.readTree("{ \"properties\": { \"f~/oo\": { \"oneOf\": [ { \"type\": \"integer\" }, { \"minimum\": 2 } ] } }}");
@@ -1,5 +1,6 @@
 package org.openapi4j.schema.validator;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.Assert;
@@ -51,6 +52,56 @@ class ValidationUtil {
     }
   }
 
+  static void validateStreaming(String testPath, boolean isFastFail) throws Exception {
+    ArrayNode testCases = (ArrayNode) TreeUtil.json.readTree(ValidationUtil.class.getResource(testPath));
+
+    for (int index = 0; index < testCases.size(); index++) {
+      JsonNode testCase = testCases.get(index);
+      JsonNode schemaNode = testCase.get("schema");
+
+      OAI3Context apiContext = new OAI3Context(new URL("file:/"), schemaNode);
+      ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+      validationContext.setFastFail(isFastFail);
+
+      SchemaValidator schemaValidator = new SchemaValidator(validationContext, null, schemaNode);
+      doStreamingTests(schemaValidator, testCase, testCase.get("description").textValue(), isFastFail);
+    }
+  }
+
+  private static void doStreamingTests(SchemaValidator schemaValidator,
+                                       JsonNode testCase,
+                                       String testDescription,
+                                       boolean isFastFail) throws Exception {
+
+    ArrayNode testNodes = (ArrayNode) testCase.get("tests");
+    for (int i = 0; i < testNodes.size(); i++) {
+      JsonNode test = testNodes.get(i);
+      JsonNode contentNode = test.get("data");
+      boolean isValidExpected = test.get("valid").asBoolean();
+
+      ValidationData<Void> treeValidation = new ValidationData<>();
+      schemaValidator.validate(contentNode, treeValidation);
+
+      ValidationData<Void> validation = new ValidationData<>();
+      try (JsonParser parser = TreeUtil.json.getFactory().createParser(TreeUtil.json.writeValueAsBytes(contentNode))) {
+        schemaValidator.validate(parser, validation);
+      }
+
+      String message = String.format(
+        "TEST FAILURE : %s - %s\nData : %s\nTree : %s\nStream : %s",
+        testDescription,
+        test.get("description"),
+        contentNode,
+        treeValidation.results(),
+        validation.results());
+
+      Assert.assertEquals(message, isValidExpected, validation.isValid());
+      if (!isFastFail) {
+        Assert.assertEquals(message, treeValidation.results().size(), validation.results().size());
+      }
+    }
+  }
+
   private static void doTests(SchemaValidator schemaValidator, JsonNode testCase, String testDescription) {
     ArrayNode testNodes = (ArrayNode) testCase.get("tests");
     for (int i = 0; i < testNodes.size(); i++) {
@@ -0,0 +1,110 @@
+package org.openapi4j.schema.validator.regex;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import java.net.URL;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class RegexEngineTest {
+  private static final String[] EXPRESSIONS = {
+    "", "a", "^a", "a$", "^a$", "abc", "a|b|", "a*", "a+b", "a?b", "(ab)+", "(?:ab|cd)*e", "(?<name>x)y",
+    "a{2}", "a{2,}", "a{1,3}b", "a{0,2}?", "x*?y", "[abc]", "[^abc]", "[a-z0-9_]+", "[]a]", "[a-]", "[\\d\\s]",
+    "\\d+", "\\D", "\\w+", "\\W", "\\s", "\\S+", "\\bfoo\\b", "\\Bo", "\\Aab", "ab\\z", "ab\\Z", ".", ".+",
+    "\\.", "\\u0041", "\\x41", "\\t", "\\Q.*\\E", "^[a-zA-Z][a-zA-Z0-9+.-]*:", "^\\S+@\\S+$", "^(\\+|-)?\\d+$",
+    "😀", "[😀-😂]", "^.$", "^(a|ab)(c|bcd)(d*)$", "(^)+a", "(?:\\b)*o", "(\\b){2}foo", "a($)?", "(^){0}b", "(\\B)+o"
+  };
+
+  private static final String[] INPUTS = {
+    "", "a", "b", "aa", "aaa", "ab", "abab", "abcde", "cde", "xy", "xxy", "foo bar", "foobar", "0", "123", "a1_",
+    "]", "-", " ", "\t", "A", ".", "x.*y", "mailto:joe", "joe@doe", "+12", "-", "😀", "😁", "ab\n", "ab\r\n", "\n",
+    "{", "a{,2}", "abcd"
+  };
+
+  @Test
+  public void sameResultsAsJdk() {
+    for (String expression : EXPRESSIONS) {
+      Pattern jdk = Pattern.compile(expression);
+      Regex linear = LinearRegexEngine.instance().compile(expression);
+
+      for (String input : INPUTS) {
+        assertEquals(expression + " find " + input, jdk.matcher(input).find(), linear.find(input));
+        assertEquals(expression + " matches " + input, jdk.matcher(input).matches(), linear.matches(input));
+      }
+    }
+  }
+
+  @Test
+  public void unsupportedConstructs() {
+    String[] expressions = {"(a)\\1", "a(?=b)", "(?<!a)b", "(?i)a", "a*+", "a{", "a{,2}", "{", "\\p{L}", "[a[b]]", "[a&&b]", "(a", "a)", "*a", "a{3,1}"};
+
+    for (String expression : expressions) {
+      try {
+        LinearRegexEngine.instance().compile(expression);
+        fail(expression);
+      } catch (IllegalArgumentException ignored) {
+        // expected
+      }
+    }
+  }
+
+  @Test(timeout = 5000)
+  public void linearTime() {
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      input.append('a');
+    }
+    input.append('!');
+
+    assertFalse(LinearRegexEngine.instance().compile("^(a+)+$").find(input));
+    assertFalse(LinearRegexEngine.instance().compile("^(a|a)*$").matches(input));
+  }
+
+  @Test(expected = RegexBudgetException.class)
+  public void jdkBudget() {
+    new JdkRegexEngine(100_000).compile("^(a+)+$").find("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!");
+  }
+
+  @Test(expected = RegexBudgetException.class)
+  public void linearBudget() {
+    new LinearRegexEngine(100).compile("(a|b)*c").find("abababababababababababababababababababab");
+  }
+
+  @Test
+  public void budgetValidationError() throws Exception {
+    JsonNode schemaNode = TreeUtil.json.readTree(
+      "{ \"properties\": { \"foo\": { \"pattern\": \"^(a+)+$\" } }, \"patternProperties\": { \"^(b+)+$\": {} }, \"additionalProperties\": false }");
+
+    ValidationContext<OAI3> context = new ValidationContext<>(new OAI3Context(new URL("file:/"), schemaNode));
+    context.setRegexEngine(new JdkRegexEngine(10_000));
+    SchemaValidator validator = new SchemaValidator(context, null, schemaNode);
+
+    ValidationData<Void> validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"foo\": \"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!\", \"bbbbbbbbbbbbbbbbbbbbbbbbbbbbbb!\": 1 }"), validation);
+
+    // pattern, patternProperties and additionalProperties
+    assertEquals(3, validation.results().size());
+    assertEquals(1029, validation.results().items().get(0).code().intValue());
+    assertEquals(1029, validation.results().items().get(1).code().intValue());
+    assertEquals(1029, validation.results().items().get(2).code().intValue());
+
+    // Same without budget issue
+    context = new ValidationContext<>(new OAI3Context(new URL("file:/"), schemaNode));
+    context.setRegexEngine(LinearRegexEngine.instance());
+    validator = new SchemaValidator(context, null, schemaNode);
+
+    validation = new ValidationData<>();
+    validator.validate(TreeUtil.json.readTree("{ \"foo\": \"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!\", \"bbbbbbbbbbbbbbbbbbbbbbbbbbbbbb!\": 1 }"), validation);
+    assertEquals(2, validation.results().size());
+    assertNotEquals(1029, validation.results().items().get(0).code().intValue());
+    assertNotEquals(1029, validation.results().items().get(1).code().intValue());
+  }
+}